@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Compara threads de plataforma (Tomcat com 200 workers) e virtual threads.
+# Requer k6, o Postgres do docker-compose no ar e JAVA_HOME de um JDK 21
+# (o mesmo JDK executa os dois modos; só o perfil muda).
+#
+#   JAVA_HOME=/caminho/jdk-21 load-test/comparar.sh
+#
+# Os dois modos rodam com o mesmo pool do Hikari e sem o log de SQL, para que a diferença
+# medida seja só o modelo de threads.
+set -euo pipefail
+
+RAIZ="$(cd "$(dirname "$0")/.." && pwd)"
+PORTA="${PORTA:-8080}"
+POOL_CONEXOES="${POOL_CONEXOES:-50}"
+
+executar() {
+    local modo="$1" perfil_maven="$2" perfil_spring="$3"
+
+    (cd "$RAIZ/spring-todo" && ./mvnw -q -DskipTests $perfil_maven package)
+    java -jar "$RAIZ"/spring-todo/target/spring-todo-*.jar \
+        --server.port="$PORTA" --spring.profiles.active="$perfil_spring" \
+        --spring.jpa.show-sql=false --spring.datasource.hikari.maximum-pool-size="$POOL_CONEXOES" \
+        > "$RAIZ/load-test/app-$modo.log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' RETURN
+
+    until curl -sf "http://localhost:$PORTA/actuator/health" > /dev/null; do sleep 1; done
+
+    (cd "$RAIZ" && k6 run -q -e BASE_URL="http://localhost:$PORTA" -e MODO="$modo" load-test/tarefas.js)
+}
+
+executar plataforma "" default
+executar virtual "-Pvirtual-threads" virtual-threads
@@ -0,0 +1,89 @@
+// Teste de carga da API de tarefas (k6: https://k6.io)
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODO=plataforma load-test/tarefas.js
+//
+// Um usuário é registrado e autenticado no setup; cada VU lista tarefas, busca uma tarefa
+// e cria outra, reutilizando o cookie access-token (o login não entra na medição).
+import http from 'k6/http';
+import { check, fail } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODO = __ENV.MODO || 'desconhecido';
+
+export const options = {
+    scenarios: {
+        tarefas: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: Number(__ENV.VUS || 500) },
+                { duration: __ENV.DURACAO || '2m', target: Number(__ENV.VUS || 500) },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+    tags: { modo: MODO },
+};
+
+export function setup() {
+    const sufixo = Date.now();
+    const credenciais = { nomeUsuario: `carga${sufixo}`, senha: 'senha-carga-123' };
+    const json = { headers: { 'Content-Type': 'application/json' } };
+
+    http.post(`${BASE_URL}/api/auth/register`,
+        JSON.stringify({ ...credenciais, email: `carga${sufixo}@example.com` }), json);
+
+    const login = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify(credenciais), json);
+    const cookie = login.cookies['access-token'];
+    if (!cookie || cookie.length === 0) {
+        fail(`login falhou: ${login.status} ${login.body}`);
+    }
+    const accessToken = cookie[0].value;
+
+    const criada = http.post(`${BASE_URL}/api/tarefas`, JSON.stringify(novaTarefa()), autenticado(accessToken));
+    return { accessToken, tarefaId: criada.json('tarefaId') };
+}
+
+export default function (dados) {
+    const params = autenticado(dados.accessToken);
+
+    const lista = http.get(`${BASE_URL}/api/tarefas?size=20`, { ...params, tags: { endpoint: 'listar' } });
+    check(lista, { 'listar 200': (r) => r.status === 200 });
+
+    const busca = http.get(`${BASE_URL}/api/tarefas/${dados.tarefaId}`, { ...params, tags: { endpoint: 'buscar' } });
+    check(busca, { 'buscar 200': (r) => r.status === 200 });
+
+    const criada = http.post(`${BASE_URL}/api/tarefas`, JSON.stringify(novaTarefa()),
+        { ...params, tags: { endpoint: 'criar' } });
+    check(criada, { 'criar 201': (r) => r.status === 201 });
+}
+
+export function handleSummary(data) {
+    return {
+        [`load-test/resultado-${MODO}.json`]: JSON.stringify(data, null, 2),
+        stdout: resumo(data),
+    };
+}
+
+function autenticado(accessToken) {
+    return { headers: { 'Content-Type': 'application/json', Cookie: `access-token=${accessToken}` } };
+}
+
+function novaTarefa() {
+    return {
+        titulo: `Tarefa de carga ${__VU}-${__ITER}`,
+        descricao: 'Criada pelo teste de carga',
+        prioridade: 'MEDIA',
+        status: 'PENDENTE',
+    };
+}
+
+function resumo(data) {
+    const duracao = data.metrics.http_req_duration.values;
+    return `\n[${MODO}] ${data.metrics.http_reqs.values.rate.toFixed(1)} req/s | ` +
+        `p50 ${duracao.med.toFixed(1)} ms | p95 ${duracao['p(95)'].toFixed(1)} ms | ` +
+        `erros ${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}%\n`;
+}
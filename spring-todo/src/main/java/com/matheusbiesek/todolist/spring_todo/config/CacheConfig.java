@@ -0,0 +1,41 @@
+package com.matheusbiesek.todolist.spring_todo.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ESTATISTICAS_TAREFAS = "estatisticas-tarefas";
+
+    @Value("${app.cache.estatisticas-tarefas.tamanho-maximo:10000}")
+    private long estatisticasTamanhoMaximo;
+
+    @Value("${app.cache.estatisticas-tarefas.ttl-minutos:5}")
+    private long estatisticasTtlMinutos;
+
+    /**
+     * Caches locais (Caffeine) com tamanho e TTL limitados. O {@code recordStats()}
+     * permite que o actuator publique as métricas cache.gets (hit/miss) e cache.evictions.
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(ESTATISTICAS_TAREFAS, Caffeine.newBuilder()
+                .maximumSize(estatisticasTamanhoMaximo)
+                .expireAfterWrite(Duration.ofMinutes(estatisticasTtlMinutos))
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
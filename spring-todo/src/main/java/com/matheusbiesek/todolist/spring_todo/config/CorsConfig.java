@@ -7,6 +7,8 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.matheusbiesek.todolist.spring_todo.service.ContagemAproximadaService;
+
 @Configuration
 public class CorsConfig {
 
@@ -19,6 +21,7 @@ public class CorsConfig {
         configuration.addAllowedOrigin("http://localhost:" + serverPort);
         configuration.addAllowedMethod("*");
         configuration.addAllowedHeader("*");
+        configuration.addExposedHeader(ContagemAproximadaService.HEADER_TOTAL_APROXIMADO);
         configuration.setAllowCredentials(true);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
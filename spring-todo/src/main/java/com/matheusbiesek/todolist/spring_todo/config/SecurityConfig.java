@@ -1,5 +1,6 @@
 package com.matheusbiesek.todolist.spring_todo.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,21 +12,43 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import com.matheusbiesek.todolist.spring_todo.security.BCryptStrengthCalibrator;
 import com.matheusbiesek.todolist.spring_todo.security.JwtAuthenticationFilter;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
+@Slf4j
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CorsConfigurationSource corsConfigurationSource;
 
+    @Value("${app.senha.bcrypt.tempo-alvo-ms:250}")
+    private long bcryptTempoAlvoMs;
+
+    @Value("${app.senha.bcrypt.forca-minima:10}")
+    private int bcryptForcaMinima;
+
+    @Value("${app.senha.bcrypt.forca-maxima:14}")
+    private int bcryptForcaMaxima;
+
+    @Value("${app.senha.hashing.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int hashingThreads;
+
+    @Value("${app.senha.hashing.capacidade-fila:50}")
+    private int hashingCapacidadeFila;
+
+    @Value("${app.auth.continuacao.threads:8}")
+    private int continuacaoThreads;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -42,9 +65,46 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * BCrypt com força calibrada na inicialização para o tempo alvo. Hashes com força menor
+     * são regravados no próximo login bem-sucedido (UserDetailsPasswordService).
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int forca = BCryptStrengthCalibrator.calibrar(bcryptTempoAlvoMs, bcryptForcaMinima, bcryptForcaMaxima);
+        log.info("BCrypt calibrado com força {} para tempo alvo de {} ms", forca, bcryptTempoAlvoMs);
+        return new BCryptPasswordEncoder(forca);
+    }
+
+    /**
+     * Pool limitado e dedicado ao BCrypt. Sem fila de espera ilimitada: ao saturar, a tarefa
+     * é rejeitada (TaskRejectedException) e a API responde 429. As métricas executor.* são
+     * publicadas pelo actuator com a tag name=passwordHashingExecutor.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(hashingThreads);
+        executor.setMaxPoolSize(hashingThreads);
+        executor.setQueueCapacity(hashingCapacidadeFila);
+        executor.setThreadNamePrefix("senha-hashing-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Continuações de login e registro (consultas ao banco, emissão de tokens), executadas fora do
+     * pool de BCrypt para que cada vaga dele só fique ocupada durante o hash. A entrada já é limitada
+     * pelo {@code passwordHashingExecutor}, por isso a fila não tem limite e nada é rejeitado aqui.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor autenticacaoExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(continuacaoThreads);
+        executor.setMaxPoolSize(continuacaoThreads);
+        executor.setThreadNamePrefix("autenticacao-");
+        executor.initialize();
+        return executor;
     }
 
     @Bean
@@ -20,12 +20,10 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.matheusbiesek.todolist.spring_todo.dto.anexo.AnexoResponse;
 import com.matheusbiesek.todolist.spring_todo.entity.Anexo;
-import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
 import com.matheusbiesek.todolist.spring_todo.mapper.AnexoMapper;
 import com.matheusbiesek.todolist.spring_todo.security.UserContext;
 import com.matheusbiesek.todolist.spring_todo.service.AnexoService;
 import com.matheusbiesek.todolist.spring_todo.service.TarefaService;
-import com.matheusbiesek.todolist.spring_todo.service.UsuarioService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -41,7 +39,6 @@ public class AnexoController {
 
     private final AnexoService anexoService;
     private final TarefaService tarefaService;
-    private final UsuarioService usuarioService;
     private final AnexoMapper anexoMapper;
 
     @GetMapping
@@ -51,10 +48,7 @@ public class AnexoController {
     @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
     public ResponseEntity<List<AnexoResponse>> listarAnexos(@PathVariable Long tarefaId) {
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
-        return tarefaService.findByIdAndUsuario(tarefaId, usuario)
+        return tarefaService.findByIdAndUsuarioId(tarefaId, userId)
                 .map(tarefa -> {
                     List<Anexo> anexos = anexoService.findByTarefa(tarefa);
                     List<AnexoResponse> anexosResponse = anexos.stream()
@@ -77,10 +71,7 @@ public class AnexoController {
             @RequestParam("arquivo") MultipartFile arquivo) {
         
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
-        return tarefaService.findByIdAndUsuario(tarefaId, usuario)
+        return tarefaService.findByIdAndUsuarioId(tarefaId, userId)
                 .map(tarefa -> {
                     Anexo anexoSalvo = anexoService.salvarAnexo(arquivo, tarefa);
                     AnexoResponse response = anexoMapper.toResponse(anexoSalvo);
@@ -99,10 +90,7 @@ public class AnexoController {
             @PathVariable Long anexoId) {
         
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
-        return tarefaService.findByIdAndUsuario(tarefaId, usuario)
+        return tarefaService.findByIdAndUsuarioId(tarefaId, userId)
                 .map(tarefa -> {
                     return anexoService.findByIdAndTarefa(anexoId, tarefa)
                             .map(anexo -> {
@@ -129,10 +117,7 @@ public class AnexoController {
             @PathVariable Long anexoId) {
         
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
-        return tarefaService.findByIdAndUsuario(tarefaId, usuario)
+        return tarefaService.findByIdAndUsuarioId(tarefaId, userId)
                 .map(tarefa -> {
                     return anexoService.findByIdAndTarefa(anexoId, tarefa)
                             .map(anexo -> {
@@ -1,13 +1,22 @@
 package com.matheusbiesek.todolist.spring_todo.controller;
 
+import com.matheusbiesek.todolist.spring_todo.dto.auth.DisponibilidadeResponse;
 import com.matheusbiesek.todolist.spring_todo.dto.auth.LoginRequest;
 import com.matheusbiesek.todolist.spring_todo.dto.auth.LoginResponse;
 import com.matheusbiesek.todolist.spring_todo.dto.auth.RegisterRequest;
 import com.matheusbiesek.todolist.spring_todo.dto.auth.RegisterResponse;
 import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
-import com.matheusbiesek.todolist.spring_todo.repository.UsuarioRepository;
+import com.matheusbiesek.todolist.spring_todo.exception.auth.EmailJaEmUsoException;
+import com.matheusbiesek.todolist.spring_todo.exception.auth.NomeUsuarioJaExisteException;
+import com.matheusbiesek.todolist.spring_todo.exception.auth.RefreshTokenInvalidoException;
 import com.matheusbiesek.todolist.spring_todo.security.CustomUserDetails;
+import com.matheusbiesek.todolist.spring_todo.service.DisponibilidadeService;
 import com.matheusbiesek.todolist.spring_todo.service.JwtService;
+import com.matheusbiesek.todolist.spring_todo.service.PasswordHashingService;
+import com.matheusbiesek.todolist.spring_todo.service.RefreshTokenService;
+import com.matheusbiesek.todolist.spring_todo.service.RefreshTokenService.RefreshTokenRotacionado;
+import com.matheusbiesek.todolist.spring_todo.service.RevogacaoTokenService;
+import com.matheusbiesek.todolist.spring_todo.service.UsuarioService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -22,22 +31,33 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 @Tag(name = "Autenticação", description = "Endpoints para autenticação de usuários")
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
+    private static final String ACCESS_TOKEN_COOKIE = "access-token";
+    private static final String REFRESH_TOKEN_COOKIE = "refresh-token";
+    private static final String REFRESH_TOKEN_PATH = "/api/auth";
+    private static final int ACCESS_TOKEN_MAX_AGE = 15 * 60; // 15 minutes
+
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
-    private final UsuarioRepository usuarioRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final UsuarioService usuarioService;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final DisponibilidadeService disponibilidadeService;
+    private final RevogacaoTokenService revogacaoTokenService;
 
-    @Operation(summary = "Fazer login", description = "Autentica um usuário e retorna um token JWT via cookie")
+    @Operation(summary = "Fazer login", description = "Autentica um usuário e retorna um token JWT e um refresh token via cookies")
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200", 
@@ -60,42 +80,90 @@ public class AuthController {
                     value = "{\"message\":\"Credenciais inválidas\",\"usuarioId\":null,\"nomeUsuario\":null}"
                 )
             )
+        ),
+        @ApiResponse(
+            responseCode = "429", 
+            description = "Pool de verificação de senhas saturado, tente novamente",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = "{\"code\":\"MUITAS_REQUISICOES\",\"message\":\"Muitas requisições de autenticação simultâneas, tente novamente em instantes\"}"
+                )
+            )
         )
     })
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest loginRequest, 
-                                               HttpServletResponse response) {
-        try {
-            Authentication authentication = authenticationManager.authenticate(
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(@Valid @RequestBody LoginRequest loginRequest, 
+                                                                  HttpServletResponse response) {
+        return passwordHashingService.executar(() -> authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                     loginRequest.getNomeUsuario(), 
                     loginRequest.getSenha()
                 )
-            );
+            ), authentication -> {
+                CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+                String accessToken = jwtService.generateAccessToken(userDetails.getUserId());
+                String refreshToken = refreshTokenService.emitir(userDetails.getUserId());
 
-            CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-            String accessToken = jwtService.generateAccessToken(userDetails.getUserId());
+                adicionarCookies(response, accessToken, refreshToken);
 
-            Cookie cookie = new Cookie("access-token", accessToken);
-            cookie.setHttpOnly(true);
-            cookie.setPath("/");
-            cookie.setMaxAge(15 * 60); // 15 minutes
-            response.addCookie(cookie);
-
-            return ResponseEntity.ok(new LoginResponse(
-                "Login realizado com sucesso",
-                userDetails.getUserId(),
-                userDetails.getUsername()
+                return ResponseEntity.ok(new LoginResponse(
+                    "Login realizado com sucesso",
+                    userDetails.getUserId(),
+                    userDetails.getUsername()
+                ));
+            })
+            .exceptionally(e -> ResponseEntity.badRequest().body(
+                new LoginResponse("Credenciais inválidas", null, null)
             ));
+    }
 
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(
-                new LoginResponse("Credenciais inválidas", null, null)
-            );
+    @Operation(summary = "Renovar token de acesso", 
+               description = "Troca o refresh token (cookie HttpOnly) por um novo token de acesso e um novo refresh token, sem reautenticar a senha")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "Token renovado com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = LoginResponse.class),
+                examples = @ExampleObject(
+                    value = "{\"message\":\"Token renovado com sucesso\",\"usuarioId\":\"123e4567-e89b-12d3-a456-426614174000\",\"nomeUsuario\":\"usuario123\"}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401", 
+            description = "Refresh token ausente, inválido, expirado ou já utilizado",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = "{\"code\":\"REFRESH_TOKEN_INVALIDO\",\"message\":\"Refresh token inválido ou expirado\"}"
+                )
+            )
+        )
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(
+            @CookieValue(name = REFRESH_TOKEN_COOKIE, required = false) String refreshToken,
+            HttpServletResponse response) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new RefreshTokenInvalidoException("Refresh token ausente");
         }
+
+        RefreshTokenRotacionado rotacionado = refreshTokenService.rotacionar(refreshToken);
+        String accessToken = jwtService.generateAccessToken(rotacionado.usuarioId());
+
+        adicionarCookies(response, accessToken, rotacionado.token());
+
+        return ResponseEntity.ok(new LoginResponse(
+            "Token renovado com sucesso",
+            rotacionado.usuarioId(),
+            rotacionado.nomeUsuario()
+        ));
     }
 
-    @Operation(summary = "Fazer logout", description = "Remove o token JWT do cookie HttpOnly")
+    @Operation(summary = "Fazer logout", description = "Revoga o access token e o refresh token e remove os cookies HttpOnly")
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200", 
@@ -110,12 +178,19 @@ public class AuthController {
         )
     })
     @PostMapping("/logout")
-    public ResponseEntity<String> logout(HttpServletResponse response) {
-        Cookie cookie = new Cookie("access-token", "");
-        cookie.setHttpOnly(true);
-        cookie.setPath("/");
-        cookie.setMaxAge(0);
-        response.addCookie(cookie);
+    public ResponseEntity<String> logout(
+            @CookieValue(name = ACCESS_TOKEN_COOKIE, required = false) String accessToken,
+            @CookieValue(name = REFRESH_TOKEN_COOKIE, required = false) String refreshToken,
+            HttpServletResponse response) {
+        if (accessToken != null && !accessToken.isBlank()) {
+            jwtService.verifyToken(accessToken).ifPresent(revogacaoTokenService::revogar);
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revogar(refreshToken);
+        }
+
+        response.addCookie(criarCookie(ACCESS_TOKEN_COOKIE, "", "/", 0));
+        response.addCookie(criarCookie(REFRESH_TOKEN_COOKIE, "", REFRESH_TOKEN_PATH, 0));
 
         return ResponseEntity.ok("Logout realizado com sucesso");
     }
@@ -154,41 +229,87 @@ public class AuthController {
                     value = "{\"message\":\"Email já está em uso\",\"usuarioId\":null,\"nomeUsuario\":null,\"email\":null}"
                 )
             )
+        ),
+        @ApiResponse(
+            responseCode = "429", 
+            description = "Pool de hash de senhas saturado, tente novamente",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    value = "{\"code\":\"MUITAS_REQUISICOES\",\"message\":\"Muitas requisições de autenticação simultâneas, tente novamente em instantes\"}"
+                )
+            )
         )
     })
     @PostMapping("/register")
-    public ResponseEntity<RegisterResponse> register(@Valid @RequestBody RegisterRequest registerRequest) {
-        try {
-            if (usuarioRepository.existsByNomeUsuario(registerRequest.getNomeUsuario())) {
-                return ResponseEntity.badRequest().body(
-                    new RegisterResponse("Nome de usuário já existe", null, null, null)
-                );
-            }
-
-            if (usuarioRepository.existsByEmail(registerRequest.getEmail())) {
-                return ResponseEntity.badRequest().body(
-                    new RegisterResponse("Email já está em uso", null, null, null)
-                );
-            }
-
-            Usuario usuario = new Usuario();
-            usuario.setNomeUsuario(registerRequest.getNomeUsuario());
-            usuario.setEmail(registerRequest.getEmail());
-            usuario.setSenhaHash(passwordEncoder.encode(registerRequest.getSenha()));
-
-            Usuario usuarioSalvo = usuarioRepository.save(usuario);
-
-            return ResponseEntity.ok(new RegisterResponse(
-                "Usuário registrado com sucesso",
-                usuarioSalvo.getUsuarioId(),
-                usuarioSalvo.getNomeUsuario(),
-                usuarioSalvo.getEmail()
-            ));
+    public CompletableFuture<ResponseEntity<RegisterResponse>> register(@Valid @RequestBody RegisterRequest registerRequest) {
+        return passwordHashingService.executar(() -> passwordEncoder.encode(registerRequest.getSenha()),
+            senhaHash -> {
+                Usuario usuario = new Usuario();
+                usuario.setNomeUsuario(registerRequest.getNomeUsuario());
+                usuario.setEmail(registerRequest.getEmail());
+                usuario.setSenhaHash(senhaHash);
 
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(
-                new RegisterResponse("Erro ao registrar usuário: " + e.getMessage(), null, null, null)
-            );
+                Usuario usuarioSalvo = usuarioService.registrar(usuario);
+                disponibilidadeService.registrar(usuarioSalvo.getNomeUsuario(), usuarioSalvo.getEmail());
+
+                return ResponseEntity.ok(new RegisterResponse(
+                    "Usuário registrado com sucesso",
+                    usuarioSalvo.getUsuarioId(),
+                    usuarioSalvo.getNomeUsuario(),
+                    usuarioSalvo.getEmail()
+                ));
+            })
+            .exceptionally(e -> {
+                Throwable causa = causa(e);
+                String mensagem = causa instanceof NomeUsuarioJaExisteException || causa instanceof EmailJaEmUsoException
+                    ? causa.getMessage()
+                    : "Erro ao registrar usuário: " + causa.getMessage();
+                return ResponseEntity.badRequest().body(new RegisterResponse(mensagem, null, null, null));
+            });
+    }
+
+    @Operation(summary = "Verificar disponibilidade", 
+               description = "Informa se o nome de usuário e/ou email estão livres para cadastro. Respostas \"livre\" vêm de um Bloom filter em memória; o banco só é consultado em possíveis colisões")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "Disponibilidade dos campos informados (null para campos não informados)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DisponibilidadeResponse.class),
+                examples = @ExampleObject(
+                    value = "{\"nomeUsuarioDisponivel\":true,\"emailDisponivel\":false}"
+                )
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Nenhum campo informado")
+    })
+    @GetMapping("/disponibilidade")
+    public ResponseEntity<DisponibilidadeResponse> disponibilidade(
+            @RequestParam(required = false) String nomeUsuario,
+            @RequestParam(required = false) String email) {
+        if (nomeUsuario == null && email == null) {
+            return ResponseEntity.badRequest().build();
         }
+        return ResponseEntity.ok(disponibilidadeService.verificar(nomeUsuario, email));
+    }
+
+    private static Throwable causa(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private void adicionarCookies(HttpServletResponse response, String accessToken, String refreshToken) {
+        response.addCookie(criarCookie(ACCESS_TOKEN_COOKIE, accessToken, "/", ACCESS_TOKEN_MAX_AGE));
+        response.addCookie(criarCookie(REFRESH_TOKEN_COOKIE, refreshToken, REFRESH_TOKEN_PATH,
+            (int) refreshTokenService.getValidadeEmSegundos()));
+    }
+
+    private Cookie criarCookie(String nome, String valor, String path, int maxAge) {
+        Cookie cookie = new Cookie(nome, valor);
+        cookie.setHttpOnly(true);
+        cookie.setPath(path);
+        cookie.setMaxAge(maxAge);
+        return cookie;
     }
 }
\ No newline at end of file
@@ -5,8 +5,10 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,18 +21,19 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.matheusbiesek.todolist.spring_todo.dto.common.AtualizacaoLoteResponse;
 import com.matheusbiesek.todolist.spring_todo.dto.common.StatusUpdateRequest;
 import com.matheusbiesek.todolist.spring_todo.dto.subtarefa.SubtarefaCreateRequest;
 import com.matheusbiesek.todolist.spring_todo.dto.subtarefa.SubtarefaResponse;
 import com.matheusbiesek.todolist.spring_todo.dto.subtarefa.SubtarefaUpdateRequest;
 import com.matheusbiesek.todolist.spring_todo.entity.Subtarefa;
-import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
 import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
 import com.matheusbiesek.todolist.spring_todo.mapper.SubtarefaMapper;
 import com.matheusbiesek.todolist.spring_todo.security.UserContext;
+import com.matheusbiesek.todolist.spring_todo.service.ContagemAproximadaService;
 import com.matheusbiesek.todolist.spring_todo.service.SubtarefaService;
 import com.matheusbiesek.todolist.spring_todo.service.TarefaService;
-import com.matheusbiesek.todolist.spring_todo.service.UsuarioService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -51,8 +54,8 @@ public class SubtarefaController {
 
     private final SubtarefaService subtarefaService;
     private final TarefaService tarefaService;
-    private final UsuarioService usuarioService;
     private final SubtarefaMapper subtarefaMapper;
+    private final ContagemAproximadaService contagemAproximadaService;
 
     @GetMapping("/tarefa/{tarefaId}")
     @Operation(
@@ -110,7 +113,7 @@ public class SubtarefaController {
             )
         )
     })
-    public ResponseEntity<Page<SubtarefaResponse>> listarSubtarefasPorTarefa(
+    public ResponseEntity<Slice<SubtarefaResponse>> listarSubtarefasPorTarefa(
             @Parameter(
                 name = "tarefaId",
                 description = "ID único da tarefa para listar suas subtarefas",
@@ -163,24 +166,50 @@ public class SubtarefaController {
                 example = "DESC",
                 schema = @Schema(type = "string", allowableValues = {"ASC", "DESC"})
             )
-            @RequestParam(defaultValue = "DESC") String sortDir) {
+            @RequestParam(defaultValue = "DESC") String sortDir,
+            
+            @Parameter(
+                name = "withTotal",
+                description = "Calcular o total de elementos; false dispensa o COUNT e retorna apenas se há próxima página",
+                required = false,
+                example = "true",
+                schema = @Schema(type = "boolean")
+            )
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            
+            @Parameter(
+                name = "totalAproximado",
+                description = "Com withTotal=false, envia no header X-Total-Aproximado o total estimado pelas estatísticas do banco",
+                required = false,
+                example = "false",
+                schema = @Schema(type = "boolean")
+            )
+            @RequestParam(defaultValue = "false") boolean totalAproximado) {
         
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
         Sort sort = sortDir.equalsIgnoreCase("DESC")
                 ? Sort.by(sortBy).descending()
                 : Sort.by(sortBy).ascending();
         
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        return tarefaService.findByIdAndUsuario(tarefaId, usuario)
+        return tarefaService.findByIdAndUsuarioId(tarefaId, userId)
                 .map(tarefa -> {
+                    if (!withTotal) {
+                        Slice<Subtarefa> subtarefas = status != null
+                            ? subtarefaService.findSliceByTarefaAndStatus(tarefa, status, pageable)
+                            : subtarefaService.findSliceByTarefa(tarefa, pageable);
+                        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+                        if (totalAproximado) {
+                            resposta.header(ContagemAproximadaService.HEADER_TOTAL_APROXIMADO, String.valueOf(
+                                    contagemAproximadaService.estimarSubtarefas(tarefaId, status)));
+                        }
+                        return resposta.body(subtarefas.map(subtarefaMapper::toResponse));
+                    }
                     Page<Subtarefa> subtarefas = status != null 
                         ? subtarefaService.findByTarefaAndStatus(tarefa, status, pageable)
                         : subtarefaService.findByTarefa(tarefa, pageable);
-                    Page<SubtarefaResponse> response = subtarefas.map(subtarefaMapper::toResponse);
+                    Slice<SubtarefaResponse> response = subtarefas.map(subtarefaMapper::toResponse);
                     return ResponseEntity.ok(response);
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -251,9 +280,6 @@ public class SubtarefaController {
             )
             @PathVariable Long id) {
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
         return subtarefaService.findByIdWithTarefaAndUsuario(id)
                 .filter(subtarefa -> subtarefa.getTarefa().getUsuario().getUsuarioId().equals(userId))
                 .map(subtarefaMapper::toResponse)
@@ -352,10 +378,7 @@ public class SubtarefaController {
             @Valid @RequestBody SubtarefaCreateRequest request) {
         
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
-        return tarefaService.findByIdAndUsuario(tarefaId, usuario)
+        return tarefaService.findByIdAndUsuarioId(tarefaId, userId)
                 .map(tarefa -> {
                     Subtarefa subtarefa = subtarefaMapper.toEntity(request, tarefa);
                     Subtarefa subtarefaSalva = subtarefaService.save(subtarefa);
@@ -456,17 +479,50 @@ public class SubtarefaController {
             @Valid @RequestBody SubtarefaUpdateRequest request) {
         
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+        return subtarefaService.update(id, userId, subtarefa -> subtarefaMapper.toEntity(request, subtarefa))
+                .map(subtarefaMapper::toResponse)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
 
-        return subtarefaService.findByIdWithTarefaAndUsuario(id)
-                .filter(subtarefaExistente -> subtarefaExistente.getTarefa().getUsuario().getUsuarioId().equals(userId))
-                .map(subtarefaExistente -> {
-                    Subtarefa subtarefaAtualizada = subtarefaMapper.toEntity(request, subtarefaExistente);
-                    Subtarefa subtarefaSalva = subtarefaService.update(subtarefaAtualizada);
-                    SubtarefaResponse response = subtarefaMapper.toResponse(subtarefaSalva);
-                    return ResponseEntity.ok(response);
-                })
+    @PatchMapping(value = "/{id}", consumes = {TarefaController.MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+        summary = "Atualizar subtarefa parcialmente", 
+        description = "Aplica um JSON Merge Patch (RFC 7386) à subtarefa: campos ausentes ficam como estão. " +
+                     "Só as colunas que mudaram entram no UPDATE."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Subtarefa atualizada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Patch inválido ou resultado não passa na validação"),
+        @ApiResponse(responseCode = "404", description = "Subtarefa não encontrada ou não pertence ao usuário autenticado")
+    })
+    public ResponseEntity<SubtarefaResponse> atualizarSubtarefaParcial(
+            @Parameter(
+                name = "id",
+                description = "ID único da subtarefa a ser atualizada",
+                required = true,
+                example = "1",
+                schema = @Schema(type = "integer", format = "int64", minimum = "1")
+            )
+            @PathVariable Long id,
+            
+            @Parameter(
+                description = "Merge patch com os campos a alterar",
+                required = true,
+                content = @Content(
+                    mediaType = TarefaController.MERGE_PATCH_JSON,
+                    examples = @ExampleObject(
+                        name = "Renomear subtarefa",
+                        value = "{\"titulo\":\"Criar testes de integração\"}"
+                    )
+                )
+            )
+            @RequestBody JsonNode patch) {
+        
+        UUID userId = UserContext.getUserId();
+        return subtarefaService.update(id, userId, subtarefa -> subtarefaMapper.aplicarPatch(patch, subtarefa))
+                .map(subtarefaMapper::toResponse)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -561,9 +617,6 @@ public class SubtarefaController {
             @Valid @RequestBody StatusUpdateRequest request) {
         
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
         return subtarefaService.findByIdWithTarefaAndUsuario(id)
                 .filter(subtarefa -> subtarefa.getTarefa().getUsuario().getUsuarioId().equals(userId))
                 .map(subtarefa -> {
@@ -641,9 +694,6 @@ public class SubtarefaController {
             )
             @PathVariable Long id) {
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
         return subtarefaService.findByIdWithTarefaAndUsuario(id)
                 .filter(subtarefa -> subtarefa.getTarefa().getUsuario().getUsuarioId().equals(userId))
                 .map(subtarefa -> {
@@ -653,6 +703,64 @@ public class SubtarefaController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PatchMapping("/tarefa/{tarefaId}/concluir")
+    @Operation(
+        summary = "Concluir todas as subtarefas de uma tarefa", 
+        description = "Marca como CONCLUIDA, em um único UPDATE, todas as subtarefas ainda não concluídas da tarefa " +
+                     "do usuário autenticado e retorna quantas foram alteradas."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "Subtarefas concluídas com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AtualizacaoLoteResponse.class),
+                examples = @ExampleObject(
+                    name = "Subtarefas concluídas",
+                    value = "{\"atualizadas\":3}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404", 
+            description = "Tarefa não encontrada ou não pertence ao usuário autenticado",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Tarefa não encontrada",
+                    value = "{\"message\":\"Tarefa não encontrada\",\"status\":404}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401", 
+            description = "Usuário não autenticado",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Não autenticado",
+                    value = "{\"message\":\"Token de acesso inválido ou expirado\",\"status\":401}"
+                )
+            )
+        )
+    })
+    public ResponseEntity<AtualizacaoLoteResponse> concluirSubtarefas(
+            @Parameter(
+                name = "tarefaId",
+                description = "ID único da tarefa cujas subtarefas serão concluídas",
+                required = true,
+                example = "10",
+                schema = @Schema(type = "integer", format = "int64", minimum = "1")
+            )
+            @PathVariable Long tarefaId) {
+        UUID userId = UserContext.getUserId();
+        if (!tarefaService.existsByIdAndUsuarioId(tarefaId, userId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(new AtualizacaoLoteResponse(subtarefaService.concluirTodas(tarefaId)));
+    }
+
     @GetMapping("/tarefa/{tarefaId}/count-pendentes")
     @Operation(
         summary = "Contar subtarefas pendentes", 
@@ -716,10 +824,7 @@ public class SubtarefaController {
             )
             @PathVariable Long tarefaId) {
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
-        return tarefaService.findByIdAndUsuario(tarefaId, usuario)
+        return tarefaService.findByIdAndUsuarioId(tarefaId, userId)
                 .map(tarefa -> {
                     long count = subtarefaService.countSubtarefasPendentes(tarefa);
                     return ResponseEntity.ok(count);
@@ -1,14 +1,18 @@
 package com.matheusbiesek.todolist.spring_todo.controller;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.LongSupplier;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,9 +25,16 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.matheusbiesek.todolist.spring_todo.dto.common.AtualizacaoLoteResponse;
+import com.matheusbiesek.todolist.spring_todo.dto.common.PaginaCursorResponse;
 import com.matheusbiesek.todolist.spring_todo.dto.common.StatusUpdateRequest;
 import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaCreateRequest;
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaEstatisticasResponse;
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaFiltro;
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaLoteResponse;
 import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaResponse;
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaStatusLoteRequest;
 import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaUpdateRequest;
 import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
 import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
@@ -31,14 +42,21 @@ import com.matheusbiesek.todolist.spring_todo.enums.Prioridade;
 import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
 import com.matheusbiesek.todolist.spring_todo.mapper.TarefaMapper;
 import com.matheusbiesek.todolist.spring_todo.security.UserContext;
+import com.matheusbiesek.todolist.spring_todo.service.ContagemAproximadaService;
+import com.matheusbiesek.todolist.spring_todo.service.EstatisticasTarefaService;
 import com.matheusbiesek.todolist.spring_todo.service.TarefaService;
 import com.matheusbiesek.todolist.spring_todo.service.UsuarioService;
+import com.matheusbiesek.todolist.spring_todo.util.CamposTarefa;
+import com.matheusbiesek.todolist.spring_todo.util.CursorTarefa;
+import com.matheusbiesek.todolist.spring_todo.util.OrdenacaoTarefa;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -47,46 +65,96 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Tarefas", description = "API para gerenciamento de tarefas")
 public class TarefaController {
 
+    static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     private final TarefaService tarefaService;
     private final UsuarioService usuarioService;
     private final TarefaMapper tarefaMapper;
+    private final ContagemAproximadaService contagemAproximadaService;
+    private final EstatisticasTarefaService estatisticasTarefaService;
 
     @GetMapping
     @Operation(summary = "Listar tarefas do usuário", 
                description = "Lista todas as tarefas do usuário autenticado com opções de filtro")
     @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso")
-    public ResponseEntity<Page<TarefaResponse>> listarTarefas(
-            @Parameter(description = "Filtrar por status") 
-            @RequestParam(required = false) StatusTarefa status,
-            @Parameter(description = "Filtrar por prioridade") 
-            @RequestParam(required = false) Prioridade prioridade,
+    @ApiResponse(responseCode = "400", description = "Campo de ordenação ou de resposta não permitido")
+    public ResponseEntity<Slice<?>> listarTarefas(
+            @Parameter(description = "Filtrar por status (aceita vários: status=PENDENTE&status=EM_PROGRESSO)") 
+            @RequestParam(required = false) List<StatusTarefa> status,
+            @Parameter(description = "Filtrar por prioridade (aceita várias)") 
+            @RequestParam(required = false) List<Prioridade> prioridade,
             @Parameter(description = "Filtrar por data de vencimento") 
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataVencimento,
+            @Parameter(description = "Vencimento a partir de (inclusive)") 
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate vencimentoDe,
+            @Parameter(description = "Vencimento até (inclusive)") 
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate vencimentoAte,
             @Parameter(description = "Número da página (inicia em 0)") 
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Tamanho da página") 
             @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Campo para ordenação") 
+            @Parameter(description = "Campo para ordenação (criadoEm, atualizadoEm, dataVencimento, titulo, status, prioridade)") 
             @RequestParam(defaultValue = "criadoEm") String sortBy,
             @Parameter(description = "Direção da ordenação (ASC ou DESC)") 
-            @RequestParam(defaultValue = "DESC") String sortDir) {
+            @RequestParam(defaultValue = "DESC") String sortDir,
+            @Parameter(description = "Calcular o total de elementos; false dispensa o COUNT e retorna apenas se há próxima página") 
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @Parameter(description = "Com withTotal=false, envia no header X-Total-Aproximado o total estimado pelas estatísticas do banco") 
+            @RequestParam(defaultValue = "false") boolean totalAproximado,
+            @Parameter(description = "Visão da resposta: full (padrão) ou summary (sem descrição, datas de auditoria e subtarefas)") 
+            @RequestParam(required = false) String view,
+            @Parameter(description = "Campos da resposta separados por vírgula (ex.: titulo,status); tem precedência sobre view") 
+            @RequestParam(required = false) String fields) {
         
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
-        Sort sort = sortDir.equalsIgnoreCase("DESC") 
-                ? Sort.by(sortBy).descending() 
-                : Sort.by(sortBy).ascending();
+        TarefaFiltro filtro = new TarefaFiltro(status, prioridade, dataVencimento, vencimentoDe, vencimentoAte);
+        Pageable pageable = PageRequest.of(page, size, OrdenacaoTarefa.de(sortBy, sortDir));
+        Set<String> campos = CamposTarefa.de(fields, view);
         
-        Pageable pageable = PageRequest.of(page, size, sort);
+        if (!withTotal) {
+            Slice<?> tarefas = campos == null
+                    ? tarefaService.findSliceByUsuarioIdWithFilters(userId, filtro, pageable)
+                    : tarefaService.findSliceCamposByUsuarioIdWithFilters(userId, filtro, campos, pageable);
+            return respostaSemTotal(totalAproximado,
+                    () -> contagemAproximadaService.estimarTarefas(userId, filtro))
+                    .body(tarefas);
+        }
         
-        Page<Tarefa> tarefas = tarefaService.findByUsuarioWithFilters(
-                usuario, status, prioridade, dataVencimento, pageable);
+        Page<?> tarefas = campos == null
+                ? tarefaService.findByUsuarioIdWithFilters(userId, filtro, pageable)
+                : tarefaService.findCamposByUsuarioIdWithFilters(userId, filtro, campos, pageable);
+        
+        return ResponseEntity.ok(tarefas);
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "Listar tarefas do usuário por cursor",
+               description = "Lista as tarefas do usuário autenticado da mais recente para a mais antiga. " +
+                             "Envie o nextCursor da resposta anterior para obter a página seguinte")
+    @ApiResponse(responseCode = "200", description = "Página de tarefas retornada com sucesso")
+    @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    public ResponseEntity<PaginaCursorResponse<TarefaResponse>> listarTarefasPorCursor(
+            @Parameter(description = "Filtrar por status (aceita vários: status=PENDENTE&status=EM_PROGRESSO)") 
+            @RequestParam(required = false) List<StatusTarefa> status,
+            @Parameter(description = "Filtrar por prioridade (aceita várias)") 
+            @RequestParam(required = false) List<Prioridade> prioridade,
+            @Parameter(description = "Filtrar por data de vencimento") 
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataVencimento,
+            @Parameter(description = "Vencimento a partir de (inclusive)") 
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate vencimentoDe,
+            @Parameter(description = "Vencimento até (inclusive)") 
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate vencimentoAte,
+            @Parameter(description = "Cursor retornado pela página anterior (omitir na primeira página)") 
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página") 
+            @RequestParam(defaultValue = "10") int size) {
         
-        Page<TarefaResponse> tarefasResponse = tarefas.map(tarefaMapper::toResponse);
+        UUID userId = UserContext.getUserId();
+        TarefaFiltro filtro = new TarefaFiltro(status, prioridade, dataVencimento, vencimentoDe, vencimentoAte);
+        Slice<TarefaResponse> tarefas = tarefaService.findByUsuarioIdWithFiltersAposCursor(
+                userId, filtro, decodificarCursor(cursor), size);
         
-        return ResponseEntity.ok(tarefasResponse);
+        return ResponseEntity.ok(toPaginaCursor(tarefas));
     }
 
     @GetMapping("/{id}")
@@ -96,10 +164,7 @@ public class TarefaController {
     @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
     public ResponseEntity<TarefaResponse> buscarTarefa(@PathVariable Long id) {
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
-        return tarefaService.findByIdAndUsuario(id, usuario)
+        return tarefaService.findByIdAndUsuarioId(id, userId)
                 .map(tarefaMapper::toResponse)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -112,35 +177,68 @@ public class TarefaController {
     @ApiResponse(responseCode = "400", description = "Dados inválidos")
     public ResponseEntity<TarefaResponse> criarTarefa(@Valid @RequestBody TarefaCreateRequest request) {
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
-        Tarefa tarefa = tarefaMapper.toEntity(request, usuario);
+        Tarefa tarefa = tarefaMapper.toEntity(request, usuarioService.getReference(userId));
         Tarefa tarefaSalva = tarefaService.save(tarefa);
         TarefaResponse response = tarefaMapper.toResponse(tarefaSalva);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/lote")
+    @Operation(summary = "Criar tarefas em lote", 
+               description = "Cria até " + TarefaService.MAXIMO_TAREFAS_LOTE + " tarefas, com suas subtarefas, " +
+                             "em uma única transação. Se alguma for inválida, nenhuma é criada")
+    @ApiResponse(responseCode = "201", description = "Tarefas criadas; IDs na mesma ordem do corpo")
+    @ApiResponse(responseCode = "400", description = "Dados inválidos ou lote vazio/grande demais")
+    public ResponseEntity<TarefaLoteResponse> criarTarefasEmLote(
+            @Valid @RequestBody 
+            @NotEmpty(message = "Lote deve ter ao menos uma tarefa") 
+            @Size(max = TarefaService.MAXIMO_TAREFAS_LOTE, 
+                  message = "Lote deve ter no máximo " + TarefaService.MAXIMO_TAREFAS_LOTE + " tarefas") 
+            List<TarefaCreateRequest> tarefas) {
+        
+        Usuario usuario = usuarioService.getReference(UserContext.getUserId());
+        List<Tarefa> novasTarefas = tarefas.stream()
+                .map(request -> tarefaMapper.toEntity(request, usuario))
+                .toList();
+        List<Long> tarefaIds = tarefaService.saveAll(novasTarefas).stream()
+                .map(Tarefa::getTarefaId)
+                .toList();
+        return ResponseEntity.status(HttpStatus.CREATED).body(new TarefaLoteResponse(tarefaIds));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Atualizar tarefa", 
                description = "Atualiza uma tarefa específica do usuário autenticado")
     @ApiResponse(responseCode = "200", description = "Tarefa atualizada com sucesso")
+    @ApiResponse(responseCode = "400", description = "Não é possível concluir tarefa com subtarefas pendentes")
     @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
     public ResponseEntity<TarefaResponse> atualizarTarefa(
             @PathVariable Long id, 
             @Valid @RequestBody TarefaUpdateRequest request) {
         
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
-        return tarefaService.findByIdAndUsuario(id, usuario)
-                .map(tarefaExistente -> {
-                    Tarefa tarefaAtualizada = tarefaMapper.toEntity(request, tarefaExistente);
-                    Tarefa tarefaSalva = tarefaService.update(tarefaAtualizada);
-                    TarefaResponse response = tarefaMapper.toResponse(tarefaSalva);
-                    return ResponseEntity.ok(response);
-                })
+        return tarefaService.update(id, userId, tarefa -> tarefaMapper.toEntity(request, tarefa))
+                .map(tarefaMapper::toResponse)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Atualizar tarefa parcialmente", 
+               description = "Aplica um JSON Merge Patch (RFC 7386): campos ausentes ficam como estão e null " +
+                             "limpa o campo. Só as colunas que mudaram entram no UPDATE")
+    @ApiResponse(responseCode = "200", description = "Tarefa atualizada com sucesso")
+    @ApiResponse(responseCode = "400", description = "Patch inválido, resultado não passa na validação ou " +
+                                                     "conclusão com subtarefas pendentes")
+    @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    public ResponseEntity<TarefaResponse> atualizarTarefaParcial(
+            @PathVariable Long id, 
+            @RequestBody JsonNode patch) {
+        
+        UUID userId = UserContext.getUserId();
+        return tarefaService.update(id, userId, tarefa -> tarefaMapper.aplicarPatch(patch, tarefa))
+                .map(tarefaMapper::toResponse)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -155,18 +253,27 @@ public class TarefaController {
             @Valid @RequestBody StatusUpdateRequest request) {
         
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
-        return tarefaService.findByIdAndUsuario(id, usuario)
-                .map(tarefa -> {
-                    Tarefa tarefaAtualizada = tarefaService.updateStatus(id, request.getStatus());
-                    TarefaResponse response = tarefaMapper.toResponse(tarefaAtualizada);
-                    return ResponseEntity.ok(response);
-                })
+        return tarefaService.updateStatus(id, userId, request.getStatus())
+                .map(tarefaMapper::toResponse)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @PatchMapping("/status")
+    @Operation(summary = "Atualizar status de tarefas em lote", 
+               description = "Aplica o status, em um único UPDATE, às tarefas do usuário autenticado indicadas " +
+                             "por tarefaIds e/ou filtro. Ao concluir, tarefas com subtarefas pendentes não são alteradas")
+    @ApiResponse(responseCode = "200", description = "Quantidade de tarefas que mudaram de status")
+    @ApiResponse(responseCode = "400", description = "Dados inválidos ou nenhum alvo informado")
+    public ResponseEntity<AtualizacaoLoteResponse> atualizarStatusTarefasEmLote(
+            @Valid @RequestBody TarefaStatusLoteRequest request) {
+        
+        UUID userId = UserContext.getUserId();
+        int atualizadas = tarefaService.updateStatusEmLote(
+                userId, request.getTarefaIds(), request.getFiltro(), request.getStatus());
+        return ResponseEntity.ok(new AtualizacaoLoteResponse(atualizadas));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Deletar tarefa", 
                description = "Remove uma tarefa específica do usuário autenticado")
@@ -174,10 +281,7 @@ public class TarefaController {
     @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
     public ResponseEntity<Void> deletarTarefa(@PathVariable Long id) {
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
-        return tarefaService.findByIdAndUsuario(id, usuario)
+        return tarefaService.findByIdAndUsuarioId(id, userId)
                 .map(tarefa -> {
                     tarefaService.deleteById(id);
                     return ResponseEntity.noContent().<Void>build();
@@ -189,30 +293,91 @@ public class TarefaController {
     @Operation(summary = "Listar tarefas vencidas", 
                description = "Lista todas as tarefas vencidas do usuário autenticado com paginação")
     @ApiResponse(responseCode = "200", description = "Lista de tarefas vencidas com paginação")
-    public ResponseEntity<Page<TarefaResponse>> listarTarefasVencidas(
+    @ApiResponse(responseCode = "400", description = "Campo de ordenação ou de resposta não permitido")
+    public ResponseEntity<Slice<?>> listarTarefasVencidas(
             @Parameter(description = "Número da página (inicia em 0)") 
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Tamanho da página") 
             @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Campo para ordenação") 
+            @Parameter(description = "Campo para ordenação (criadoEm, atualizadoEm, dataVencimento, titulo, status, prioridade)") 
             @RequestParam(defaultValue = "criadoEm") String sortBy,
             @Parameter(description = "Direção da ordenação (ASC ou DESC)") 
-            @RequestParam(defaultValue = "DESC") String sortDir) {
+            @RequestParam(defaultValue = "DESC") String sortDir,
+            @Parameter(description = "Calcular o total de elementos; false dispensa o COUNT e retorna apenas se há próxima página") 
+            @RequestParam(defaultValue = "true") boolean withTotal,
+            @Parameter(description = "Com withTotal=false, envia no header X-Total-Aproximado o total estimado pelas estatísticas do banco") 
+            @RequestParam(defaultValue = "false") boolean totalAproximado,
+            @Parameter(description = "Visão da resposta: full (padrão) ou summary (sem descrição, datas de auditoria e subtarefas)") 
+            @RequestParam(required = false) String view,
+            @Parameter(description = "Campos da resposta separados por vírgula (ex.: titulo,status); tem precedência sobre view") 
+            @RequestParam(required = false) String fields) {
         
         UUID userId = UserContext.getUserId();
-        Usuario usuario = usuarioService.findById(userId)
-                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-
-        Sort sort = sortDir.equalsIgnoreCase("DESC") 
-                ? Sort.by(sortBy).descending() 
-                : Sort.by(sortBy).ascending();
+        Pageable pageable = PageRequest.of(page, size, OrdenacaoTarefa.de(sortBy, sortDir));
+        Set<String> campos = CamposTarefa.de(fields, view);
         
-        Pageable pageable = PageRequest.of(page, size, sort);
+        if (!withTotal) {
+            Slice<?> tarefasVencidas = campos == null
+                    ? tarefaService.findSliceTarefasVencidasByUsuarioId(userId, pageable)
+                    : tarefaService.findSliceCamposTarefasVencidasByUsuarioId(userId, campos, pageable);
+            return respostaSemTotal(totalAproximado,
+                    () -> contagemAproximadaService.estimarTarefasVencidas(userId))
+                    .body(tarefasVencidas);
+        }
         
-        Page<Tarefa> tarefasVencidas = tarefaService.findTarefasVencidas(usuario, pageable);
-        Page<TarefaResponse> response = tarefasVencidas.map(tarefaMapper::toResponse);
+        Page<?> tarefasVencidas = campos == null
+                ? tarefaService.findTarefasVencidasByUsuarioId(userId, pageable)
+                : tarefaService.findCamposTarefasVencidasByUsuarioId(userId, campos, pageable);
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(tarefasVencidas);
+    }
+
+    @GetMapping("/vencidas/cursor")
+    @Operation(summary = "Listar tarefas vencidas por cursor", 
+               description = "Lista as tarefas vencidas do usuário autenticado da mais recente para a mais antiga. " +
+                             "Envie o nextCursor da resposta anterior para obter a página seguinte")
+    @ApiResponse(responseCode = "200", description = "Página de tarefas vencidas retornada com sucesso")
+    @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    public ResponseEntity<PaginaCursorResponse<TarefaResponse>> listarTarefasVencidasPorCursor(
+            @Parameter(description = "Cursor retornado pela página anterior (omitir na primeira página)") 
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página") 
+            @RequestParam(defaultValue = "10") int size) {
+        
+        UUID userId = UserContext.getUserId();
+        Slice<TarefaResponse> tarefasVencidas = tarefaService.findTarefasVencidasByUsuarioIdAposCursor(
+                userId, decodificarCursor(cursor), size);
+        
+        return ResponseEntity.ok(toPaginaCursor(tarefasVencidas));
+    }
+
+    @GetMapping("/estatisticas")
+    @Operation(summary = "Estatísticas das tarefas", 
+               description = "Quantidade de tarefas do usuário autenticado por status, por prioridade e vencidas. " +
+                             "O resultado fica em cache e é recalculado após qualquer alteração nas tarefas")
+    @ApiResponse(responseCode = "200", description = "Contagens retornadas com sucesso")
+    public ResponseEntity<TarefaEstatisticasResponse> estatisticasTarefas() {
+        UUID userId = UserContext.getUserId();
+        return ResponseEntity.ok(estatisticasTarefaService.calcular(userId));
+    }
+
+    private ResponseEntity.BodyBuilder respostaSemTotal(boolean totalAproximado, LongSupplier estimativa) {
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (totalAproximado) {
+            resposta.header(ContagemAproximadaService.HEADER_TOTAL_APROXIMADO, String.valueOf(estimativa.getAsLong()));
+        }
+        return resposta;
+    }
+
+    private CursorTarefa decodificarCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : CursorTarefa.decodificar(cursor);
+    }
+
+    private PaginaCursorResponse<TarefaResponse> toPaginaCursor(Slice<TarefaResponse> tarefas) {
+        String nextCursor = tarefas.hasNext()
+                ? CursorTarefa.de(tarefas.getContent().get(tarefas.getNumberOfElements() - 1)).codificar()
+                : null;
+        return new PaginaCursorResponse<>(tarefas.getContent(), tarefas.getSize(), nextCursor);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.matheusbiesek.todolist.spring_todo.dto.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DisponibilidadeResponse {
+    private Boolean nomeUsuarioDisponivel;
+    private Boolean emailDisponivel;
+}
@@ -0,0 +1,16 @@
+package com.matheusbiesek.todolist.spring_todo.dto.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response de uma atualização em lote")
+public class AtualizacaoLoteResponse {
+
+    @Schema(description = "Quantidade de registros alterados", example = "12")
+    private int atualizadas;
+}
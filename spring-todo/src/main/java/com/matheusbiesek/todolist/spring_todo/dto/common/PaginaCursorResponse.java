@@ -0,0 +1,25 @@
+package com.matheusbiesek.todolist.spring_todo.dto.common;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página de resultados navegada por cursor")
+public class PaginaCursorResponse<T> {
+
+    @Schema(description = "Itens da página")
+    private List<T> content;
+
+    @Schema(description = "Quantidade máxima de itens por página", example = "10")
+    private int size;
+
+    @Schema(description = "Cursor para buscar a próxima página; nulo quando não há mais itens",
+            example = "MjAyNC0wMS0xNVQxMDozMDowMHw0Mg")
+    private String nextCursor;
+}
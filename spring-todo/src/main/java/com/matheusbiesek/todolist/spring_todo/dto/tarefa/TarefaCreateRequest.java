@@ -1,11 +1,14 @@
 package com.matheusbiesek.todolist.spring_todo.dto.tarefa;
 
 import java.time.LocalDate;
+import java.util.List;
 
+import com.matheusbiesek.todolist.spring_todo.dto.subtarefa.SubtarefaCreateRequest;
 import com.matheusbiesek.todolist.spring_todo.enums.Prioridade;
 import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -15,6 +18,8 @@ import lombok.Data;
 @Schema(description = "Request para criação de tarefa")
 public class TarefaCreateRequest {
 
+    public static final int MAXIMO_SUBTAREFAS = 100;
+
     @NotBlank(message = "Título é obrigatório")
     @Size(max = 255, message = "Título deve ter no máximo 255 caracteres")
     @Schema(description = "Título da tarefa", example = "Implementar nova funcionalidade")
@@ -32,4 +37,9 @@ public class TarefaCreateRequest {
     @NotNull(message = "Prioridade é obrigatória")
     @Schema(description = "Prioridade da tarefa", example = "ALTA")
     private Prioridade prioridade;
+
+    @Valid
+    @Size(max = MAXIMO_SUBTAREFAS, message = "Tarefa deve ter no máximo " + MAXIMO_SUBTAREFAS + " subtarefas")
+    @Schema(description = "Subtarefas criadas junto com a tarefa (opcional)")
+    private List<SubtarefaCreateRequest> subtarefas;
 }
\ No newline at end of file
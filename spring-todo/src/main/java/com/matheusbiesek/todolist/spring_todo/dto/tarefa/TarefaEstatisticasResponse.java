@@ -0,0 +1,32 @@
+package com.matheusbiesek.todolist.spring_todo.dto.tarefa;
+
+import java.util.Map;
+
+import com.matheusbiesek.todolist.spring_todo.enums.Prioridade;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Contagens das tarefas do usuário")
+public class TarefaEstatisticasResponse {
+
+    @Schema(description = "Total de tarefas", example = "42")
+    private long total;
+
+    @Schema(description = "Quantidade de tarefas por status (todos os status aparecem, mesmo com zero)",
+            example = "{\"PENDENTE\":10,\"EM_PROGRESSO\":5,\"CONCLUIDA\":25,\"CANCELADA\":2}")
+    private Map<StatusTarefa, Long> porStatus;
+
+    @Schema(description = "Quantidade de tarefas por prioridade (todas as prioridades aparecem, mesmo com zero)",
+            example = "{\"BAIXA\":12,\"MEDIA\":20,\"ALTA\":10}")
+    private Map<Prioridade, Long> porPrioridade;
+
+    @Schema(description = "Tarefas com data de vencimento anterior a hoje", example = "3")
+    private long vencidas;
+}
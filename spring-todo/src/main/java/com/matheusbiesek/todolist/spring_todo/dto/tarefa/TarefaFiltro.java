@@ -0,0 +1,32 @@
+package com.matheusbiesek.todolist.spring_todo.dto.tarefa;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.matheusbiesek.todolist.spring_todo.enums.Prioridade;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filtros opcionais da listagem de tarefas; campos nulos ou listas vazias não restringem.
+ * O intervalo de vencimento é inclusivo nas duas pontas.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TarefaFiltro {
+
+    private List<StatusTarefa> status;
+    private List<Prioridade> prioridade;
+    private LocalDate dataVencimento;
+    private LocalDate vencimentoDe;
+    private LocalDate vencimentoAte;
+
+    public static TarefaFiltro de(StatusTarefa status, Prioridade prioridade, LocalDate dataVencimento) {
+        return new TarefaFiltro(status != null ? List.of(status) : null,
+                prioridade != null ? List.of(prioridade) : null, dataVencimento, null, null);
+    }
+}
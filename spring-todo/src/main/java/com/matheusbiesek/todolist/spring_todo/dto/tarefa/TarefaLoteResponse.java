@@ -0,0 +1,18 @@
+package com.matheusbiesek.todolist.spring_todo.dto.tarefa;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response da criação de tarefas em lote")
+public class TarefaLoteResponse {
+
+    @Schema(description = "IDs das tarefas criadas, na mesma ordem do corpo da requisição", example = "[101, 102, 103]")
+    private List<Long> tarefaIds;
+}
@@ -48,4 +48,12 @@ public class TarefaResponse {
 
     @Schema(description = "Quantidade de subtarefas pendentes", example = "3")
     private long subtarefasPendentes;
+
+    /** Usado pelas consultas com construtor das listagens; as subtarefas são preenchidas depois. */
+    public TarefaResponse(Long tarefaId, String titulo, String descricao, LocalDate dataVencimento,
+                          StatusTarefa status, Prioridade prioridade, LocalDateTime criadoEm,
+                          LocalDateTime atualizadoEm, Integer subtarefasPendentes) {
+        this(tarefaId, titulo, descricao, dataVencimento, status, prioridade, criadoEm, atualizadoEm,
+                null, subtarefasPendentes);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.matheusbiesek.todolist.spring_todo.dto.tarefa;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * Alvo da atualização em lote: {@code tarefaIds}, {@code filtro} ou os dois (combinados com E).
+ * Pelo menos um precisa ser informado, para que um corpo vazio não altere todas as tarefas.
+ */
+@Data
+@Schema(description = "Request para atualização de status de várias tarefas")
+public class TarefaStatusLoteRequest {
+
+    public static final int MAXIMO_IDS = 500;
+
+    @Size(max = MAXIMO_IDS, message = "Informe no máximo " + MAXIMO_IDS + " IDs")
+    @Schema(description = "IDs das tarefas (IDs de outros usuários são ignorados)", example = "[1, 2, 3]")
+    private List<Long> tarefaIds;
+
+    @Schema(description = "Filtro das tarefas, com os mesmos campos da listagem")
+    private TarefaFiltro filtro;
+
+    @NotNull(message = "Status é obrigatório")
+    @Schema(description = "Novo status", example = "CONCLUIDA")
+    private StatusTarefa status;
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "Informe tarefaIds ou filtro")
+    public boolean isAlvoInformado() {
+        return (tarefaIds != null && !tarefaIds.isEmpty()) || filtro != null;
+    }
+}
@@ -6,6 +6,8 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -14,10 +16,12 @@ import java.time.LocalDateTime;
 @Table(name = "anexos", schema = "app")
 @Data
 @EqualsAndHashCode(of = "anexoId")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "anexos")
 public class Anexo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "anexos_seq")
+    @SequenceGenerator(name = "anexos_seq", schema = "app", sequenceName = "anexos_anexo_id_seq", allocationSize = 50)
     @Column(name = "anexo_id")
     private Long anexoId;
 
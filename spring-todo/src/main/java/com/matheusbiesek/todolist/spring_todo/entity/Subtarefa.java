@@ -7,19 +7,25 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@DynamicUpdate
 @Table(name = "subtarefas", schema = "app")
 @Data
 @EqualsAndHashCode(of = "subtarefaId")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "subtarefas")
 public class Subtarefa {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "subtarefas_seq")
+    @SequenceGenerator(name = "subtarefas_seq", schema = "app", sequenceName = "subtarefas_subtarefa_id_seq", allocationSize = 50)
     @Column(name = "subtarefa_id")
     private Long subtarefaId;
 
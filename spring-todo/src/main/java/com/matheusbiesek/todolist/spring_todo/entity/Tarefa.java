@@ -8,21 +8,34 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+// UPDATEs gerados pelo dirty checking levam só as colunas alteradas (PATCH de um campo não
+// regrava a descrição TEXT nem as demais colunas).
 @Entity
+@DynamicUpdate
 @Table(name = "tarefas", schema = "app")
 @Data
 @EqualsAndHashCode(of = "tarefaId")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tarefas")
 public class Tarefa {
 
+    public static final int TAMANHO_LOTE = 100;
+
+    // Sequência do BIGSERIAL com otimizador pooled: um nextval reserva 50 ids (INCREMENT BY 50
+    // na V4), e os INSERTs, sem depender do id gerado pelo banco, podem ir em lote JDBC.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tarefas_seq")
+    @SequenceGenerator(name = "tarefas_seq", schema = "app", sequenceName = "tarefas_tarefa_id_seq", allocationSize = 50)
     @Column(name = "tarefa_id")
     private Long tarefaId;
 
@@ -60,9 +73,34 @@ public class Tarefa {
     @Column(name = "atualizado_em")
     private LocalDateTime atualizadoEm;
 
+    // Contadores mantidos por SubtarefaService com UPDATE atômico; o flush da entidade nunca os
+    // escreve (updatable = false), para que uma Tarefa carregada antes não sobrescreva o valor.
+    @Column(name = "subtarefas_total", nullable = false, updatable = false)
+    private int subtarefasTotal;
+
+    @Column(name = "subtarefas_pendentes", nullable = false, updatable = false)
+    private int subtarefasPendentes;
+
+    // Em listagens paginadas, inicializar a coleção de uma tarefa carrega a das demais tarefas
+    // da página (até TAMANHO_LOTE) em uma única consulta com IN, em vez de uma por linha.
     @OneToMany(mappedBy = "tarefa", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = TAMANHO_LOTE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tarefas-subtarefas")
     private List<Subtarefa> subtarefas;
 
     @OneToMany(mappedBy = "tarefa", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = TAMANHO_LOTE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tarefas-anexos")
     private List<Anexo> anexos;
+
+    /** Subtarefas criadas em cascata junto com a tarefa entram nos contadores iniciais. */
+    @PrePersist
+    void inicializarContadoresSubtarefas() {
+        if (subtarefas != null) {
+            subtarefasTotal = subtarefas.size();
+            subtarefasPendentes = (int) subtarefas.stream()
+                    .filter(subtarefa -> subtarefa.getStatus() != StatusTarefa.CONCLUIDA)
+                    .count();
+        }
+    }
 }
\ No newline at end of file
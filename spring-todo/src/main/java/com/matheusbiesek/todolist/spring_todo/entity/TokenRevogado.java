@@ -0,0 +1,63 @@
+package com.matheusbiesek.todolist.spring_todo.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Access token revogado antes do seu exp (logout). A linha só é necessária até {@code expiraEm};
+ * depois disso o próprio JWT já é rejeitado e ela é removida pela limpeza periódica.
+ *
+ * <p>O id (jti) vem do token, não do banco, então o Spring Data não tem como saber se a entidade é
+ * nova e o {@code save} faria merge (SELECT e depois INSERT). {@link #isNew()} diz que é nova até
+ * ser persistida ou carregada, e o {@code save} vai direto ao {@code persist}.
+ */
+@Entity
+@Table(name = "tokens_revogados", schema = "app")
+@Data
+@EqualsAndHashCode(of = "jti")
+public class TokenRevogado implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "jti")
+    private UUID jti;
+
+    @NotNull
+    @Column(name = "expira_em", nullable = false)
+    private Instant expiraEm;
+
+    @NotNull
+    @Column(name = "revogado_em", nullable = false)
+    private Instant revogadoEm;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private boolean novo = true;
+
+    @Override
+    public UUID getId() {
+        return jti;
+    }
+
+    @Override
+    public boolean isNew() {
+        return novo;
+    }
+
+    @PostLoad
+    @PostPersist
+    void marcarPersistido() {
+        novo = false;
+    }
+}
@@ -13,11 +13,18 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "usuarios", schema = "app")
+@Table(name = "usuarios", schema = "app", uniqueConstraints = {
+        @UniqueConstraint(name = Usuario.UK_NOME_USUARIO, columnNames = "nome_usuario"),
+        @UniqueConstraint(name = Usuario.UK_EMAIL, columnNames = "email")
+})
 @Data
 @EqualsAndHashCode(of = "usuarioId")
 public class Usuario {
 
+    /** Nomes das constraints únicas em app.usuarios (padrão do PostgreSQL em init-db.sql). */
+    public static final String UK_NOME_USUARIO = "usuarios_nome_usuario_key";
+    public static final String UK_EMAIL = "usuarios_email_key";
+
     @Id
     @GeneratedValue(generator = "UUID")
     @Column(name = "usuario_id")
@@ -25,13 +32,13 @@ public class Usuario {
 
     @NotBlank
     @Size(max = 50)
-    @Column(name = "nome_usuario", unique = true, nullable = false, length = 50)
+    @Column(name = "nome_usuario", nullable = false, length = 50)
     private String nomeUsuario;
 
     @NotBlank
     @Email
     @Size(max = 100)
-    @Column(unique = true, nullable = false, length = 100)
+    @Column(nullable = false, length = 100)
     private String email;
 
     @NotBlank
@@ -4,21 +4,30 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.method.ParameterErrors;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import com.matheusbiesek.todolist.spring_todo.dto.ErrorResponse;
 import com.matheusbiesek.todolist.spring_todo.exception.anexo.AnexoNaoEncontradoException;
 import com.matheusbiesek.todolist.spring_todo.exception.anexo.ArquivoVazioException;
+import com.matheusbiesek.todolist.spring_todo.exception.auth.AutenticacaoSobrecarregadaException;
+import com.matheusbiesek.todolist.spring_todo.exception.auth.RefreshTokenInvalidoException;
 import com.matheusbiesek.todolist.spring_todo.exception.auth.UsuarioNaoEncontradoException;
 import com.matheusbiesek.todolist.spring_todo.exception.subtarefa.SubtarefaNaoEncontradaException;
+import com.matheusbiesek.todolist.spring_todo.exception.tarefa.CampoInvalidoException;
+import com.matheusbiesek.todolist.spring_todo.exception.tarefa.CursorInvalidoException;
+import com.matheusbiesek.todolist.spring_todo.exception.tarefa.OrdenacaoInvalidaException;
 import com.matheusbiesek.todolist.spring_todo.exception.tarefa.TarefaComSubtarefasPendentesException;
 import com.matheusbiesek.todolist.spring_todo.exception.tarefa.TarefaNaoEncontradaException;
 
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 
 @RestControllerAdvice
@@ -64,6 +73,45 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(CursorInvalidoException.class)
+    public ResponseEntity<ErrorResponse> handleCursorInvalido(CursorInvalidoException ex) {
+        log.error("Cursor de paginação inválido: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                "CURSOR_INVALIDO",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(OrdenacaoInvalidaException.class)
+    public ResponseEntity<ErrorResponse> handleOrdenacaoInvalida(OrdenacaoInvalidaException ex) {
+        log.error("Ordenação inválida: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                "ORDENACAO_INVALIDA",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(CampoInvalidoException.class)
+    public ResponseEntity<ErrorResponse> handleCampoInvalido(CampoInvalidoException ex) {
+        log.error("Campo de resposta inválido: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                "CAMPO_INVALIDO",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     @ExceptionHandler(AnexoNaoEncontradoException.class)
     public ResponseEntity<ErrorResponse> handleAnexoNaoEncontrado(AnexoNaoEncontradoException ex) {
         log.error("Anexo não encontrado: {}", ex.getMessage());
@@ -103,6 +151,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(RefreshTokenInvalidoException.class)
+    public ResponseEntity<ErrorResponse> handleRefreshTokenInvalido(RefreshTokenInvalidoException ex) {
+        log.warn("Refresh token rejeitado: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                "REFRESH_TOKEN_INVALIDO",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+    }
+
+    @ExceptionHandler(AutenticacaoSobrecarregadaException.class)
+    public ResponseEntity<ErrorResponse> handleAutenticacaoSobrecarregada(AutenticacaoSobrecarregadaException ex) {
+        log.warn("Pool de hash de senhas saturado: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                "MUITAS_REQUISICOES",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -124,6 +200,67 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /** Validação de corpos em lista (ex.: POST /api/tarefas/lote); chaves como {@code tarefas[2].titulo}. */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorResponse> handleMethodValidationExceptions(HandlerMethodValidationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getParameterValidationResults().forEach(resultado -> {
+            String parametro = resultado.getMethodParameter().getParameterName();
+            String campo = resultado.getContainerIndex() != null
+                    ? parametro + "[" + resultado.getContainerIndex() + "]"
+                    : parametro;
+            if (resultado instanceof ParameterErrors parameterErrors) {
+                parameterErrors.getFieldErrors().forEach(error ->
+                        errors.put(campo + "." + error.getField(), error.getDefaultMessage()));
+            } else {
+                resultado.getResolvableErrors().forEach(error -> errors.put(campo, error.getDefaultMessage()));
+            }
+        });
+
+        log.error("Erro de validação: {}", errors);
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                "ERRO_VALIDACAO",
+                "Dados inválidos fornecidos",
+                LocalDateTime.now(),
+                errors
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /** Merge patch aplicado sobre o estado atual que não passa nas regras do DTO de atualização. */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolation(ConstraintViolationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getConstraintViolations().forEach(violacao ->
+                errors.put(violacao.getPropertyPath().toString(), violacao.getMessage()));
+
+        log.error("Erro de validação: {}", errors);
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                "ERRO_VALIDACAO",
+                "Dados inválidos fornecidos",
+                LocalDateTime.now(),
+                errors
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(PatchInvalidoException.class)
+    public ResponseEntity<ErrorResponse> handlePatchInvalido(PatchInvalidoException ex) {
+        log.error("Merge patch inválido: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                "PATCH_INVALIDO",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException ex) {
         log.error("Erro interno do servidor: {}", ex.getMessage(), ex);
@@ -0,0 +1,8 @@
+package com.matheusbiesek.todolist.spring_todo.exception;
+
+public class PatchInvalidoException extends RuntimeException {
+
+    public PatchInvalidoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.matheusbiesek.todolist.spring_todo.exception.auth;
+
+public class AutenticacaoSobrecarregadaException extends RuntimeException {
+
+    public AutenticacaoSobrecarregadaException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public AutenticacaoSobrecarregadaException() {
+        super("Muitas requisições de autenticação simultâneas, tente novamente em instantes");
+    }
+}
@@ -0,0 +1,12 @@
+package com.matheusbiesek.todolist.spring_todo.exception.auth;
+
+public class EmailJaEmUsoException extends RuntimeException {
+
+    public EmailJaEmUsoException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public EmailJaEmUsoException(Throwable cause) {
+        super("Email já está em uso", cause);
+    }
+}
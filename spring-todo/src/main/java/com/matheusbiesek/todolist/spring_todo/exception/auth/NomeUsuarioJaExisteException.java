@@ -0,0 +1,12 @@
+package com.matheusbiesek.todolist.spring_todo.exception.auth;
+
+public class NomeUsuarioJaExisteException extends RuntimeException {
+
+    public NomeUsuarioJaExisteException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public NomeUsuarioJaExisteException(Throwable cause) {
+        super("Nome de usuário já existe", cause);
+    }
+}
@@ -0,0 +1,12 @@
+package com.matheusbiesek.todolist.spring_todo.exception.auth;
+
+public class RefreshTokenInvalidoException extends RuntimeException {
+
+    public RefreshTokenInvalidoException(String message) {
+        super(message);
+    }
+
+    public RefreshTokenInvalidoException() {
+        super("Refresh token inválido ou expirado");
+    }
+}
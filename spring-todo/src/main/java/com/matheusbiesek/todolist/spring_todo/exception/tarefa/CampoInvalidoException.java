@@ -0,0 +1,11 @@
+package com.matheusbiesek.todolist.spring_todo.exception.tarefa;
+
+import java.util.Collection;
+
+public class CampoInvalidoException extends RuntimeException {
+
+    public CampoInvalidoException(String parametro, Collection<String> invalidos, Collection<String> permitidos) {
+        super("Valor inválido em " + parametro + ": " + String.join(", ", invalidos)
+                + ". Permitidos: " + String.join(", ", permitidos));
+    }
+}
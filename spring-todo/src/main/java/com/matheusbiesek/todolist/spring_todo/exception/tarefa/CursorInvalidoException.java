@@ -0,0 +1,8 @@
+package com.matheusbiesek.todolist.spring_todo.exception.tarefa;
+
+public class CursorInvalidoException extends RuntimeException {
+
+    public CursorInvalidoException(String cursor) {
+        super("Cursor de paginação inválido: " + cursor);
+    }
+}
@@ -0,0 +1,11 @@
+package com.matheusbiesek.todolist.spring_todo.exception.tarefa;
+
+import java.util.Collection;
+import java.util.TreeSet;
+
+public class OrdenacaoInvalidaException extends RuntimeException {
+
+    public OrdenacaoInvalidaException(String campo, Collection<String> permitidos) {
+        super("Campo de ordenação inválido: " + campo + ". Permitidos: " + String.join(", ", new TreeSet<>(permitidos)));
+    }
+}
@@ -0,0 +1,51 @@
+package com.matheusbiesek.todolist.spring_todo.mapper;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matheusbiesek.todolist.spring_todo.exception.PatchInvalidoException;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+
+/**
+ * Aplica um JSON Merge Patch (RFC 7386) sobre o DTO de atualização montado a partir do estado
+ * atual: membros ausentes mantêm o valor, {@code null} limpa o campo e os demais substituem.
+ * O resultado é validado com as mesmas regras do PUT antes de chegar à entidade.
+ */
+@Component
+public class MergePatch {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public MergePatch(ObjectMapper objectMapper, Validator validator) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    public <T> T aplicar(JsonNode patch, T atual) {
+        if (patch == null || !patch.isObject()) {
+            throw new PatchInvalidoException("O merge patch deve ser um objeto JSON");
+        }
+        T resultado;
+        try {
+            resultado = objectMapper.readerForUpdating(atual).readValue(patch);
+        } catch (JsonProcessingException e) {
+            throw new PatchInvalidoException("Merge patch inválido: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new PatchInvalidoException("Merge patch inválido: " + e.getMessage());
+        }
+        Set<ConstraintViolation<T>> violacoes = validator.validate(resultado);
+        if (!violacoes.isEmpty()) {
+            throw new ConstraintViolationException(violacoes);
+        }
+        return resultado;
+    }
+}
@@ -1,5 +1,6 @@
 package com.matheusbiesek.todolist.spring_todo.mapper;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.matheusbiesek.todolist.spring_todo.dto.subtarefa.SubtarefaCreateRequest;
 import com.matheusbiesek.todolist.spring_todo.dto.subtarefa.SubtarefaResponse;
 import com.matheusbiesek.todolist.spring_todo.dto.subtarefa.SubtarefaUpdateRequest;
@@ -11,6 +12,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class SubtarefaMapper {
 
+    private final MergePatch mergePatch;
+
+    public SubtarefaMapper(MergePatch mergePatch) {
+        this.mergePatch = mergePatch;
+    }
+
     public Subtarefa toEntity(SubtarefaCreateRequest request, Tarefa tarefa) {
         Subtarefa subtarefa = new Subtarefa();
         subtarefa.setTitulo(request.getTitulo());
@@ -25,6 +32,13 @@ public class SubtarefaMapper {
         return subtarefaExistente;
     }
 
+    public Subtarefa aplicarPatch(JsonNode patch, Subtarefa subtarefaExistente) {
+        SubtarefaUpdateRequest atual = new SubtarefaUpdateRequest();
+        atual.setTitulo(subtarefaExistente.getTitulo());
+        atual.setStatus(subtarefaExistente.getStatus());
+        return toEntity(mergePatch.aplicar(patch, atual), subtarefaExistente);
+    }
+
     public SubtarefaResponse toResponse(Subtarefa subtarefa) {
         SubtarefaResponse response = new SubtarefaResponse();
         response.setSubtarefaId(subtarefa.getSubtarefaId());
@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaCreateRequest;
 import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaResponse;
 import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaUpdateRequest;
@@ -16,9 +17,11 @@ import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
 public class TarefaMapper {
 
     private final SubtarefaMapper subtarefaMapper;
+    private final MergePatch mergePatch;
 
-    public TarefaMapper(SubtarefaMapper subtarefaMapper) {
+    public TarefaMapper(SubtarefaMapper subtarefaMapper, MergePatch mergePatch) {
         this.subtarefaMapper = subtarefaMapper;
+        this.mergePatch = mergePatch;
     }
 
     public Tarefa toEntity(TarefaCreateRequest request, Usuario usuario) {
@@ -29,6 +32,13 @@ public class TarefaMapper {
         tarefa.setStatus(request.getStatus() != null ? request.getStatus() : StatusTarefa.PENDENTE);
         tarefa.setPrioridade(request.getPrioridade());
         tarefa.setUsuario(usuario);
+        if (request.getSubtarefas() != null && !request.getSubtarefas().isEmpty()) {
+            tarefa.setSubtarefas(
+                request.getSubtarefas().stream()
+                    .map(subtarefa -> subtarefaMapper.toEntity(subtarefa, tarefa))
+                    .collect(Collectors.toList())
+            );
+        }
         return tarefa;
     }
 
@@ -41,6 +51,20 @@ public class TarefaMapper {
         return tarefaExistente;
     }
 
+    /**
+     * Aplica o merge patch à tarefa gerenciada; campos que não mudam de valor não sujam a
+     * entidade e ficam fora do UPDATE.
+     */
+    public Tarefa aplicarPatch(JsonNode patch, Tarefa tarefaExistente) {
+        TarefaUpdateRequest atual = new TarefaUpdateRequest();
+        atual.setTitulo(tarefaExistente.getTitulo());
+        atual.setDescricao(tarefaExistente.getDescricao());
+        atual.setDataVencimento(tarefaExistente.getDataVencimento());
+        atual.setStatus(tarefaExistente.getStatus());
+        atual.setPrioridade(tarefaExistente.getPrioridade());
+        return toEntity(mergePatch.aplicar(patch, atual), tarefaExistente);
+    }
+
     public TarefaResponse toResponse(Tarefa tarefa) {
         TarefaResponse response = new TarefaResponse();
         response.setTarefaId(tarefa.getTarefaId());
@@ -58,15 +82,10 @@ public class TarefaMapper {
                     .map(subtarefaMapper::toResponse)
                     .collect(Collectors.toList())
             );
-            response.setSubtarefasPendentes(
-                tarefa.getSubtarefas().stream()
-                    .filter(subtarefa -> subtarefa.getStatus() != StatusTarefa.CONCLUIDA)
-                    .count()
-            );
         } else {
             response.setSubtarefas(Collections.emptyList());
-            response.setSubtarefasPendentes(0);
         }
+        response.setSubtarefasPendentes(tarefa.getSubtarefasPendentes());
         
         return response;
     }
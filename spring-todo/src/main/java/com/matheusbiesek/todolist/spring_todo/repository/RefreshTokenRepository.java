@@ -0,0 +1,41 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+import com.matheusbiesek.todolist.spring_todo.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    @Query("SELECT r FROM RefreshToken r JOIN FETCH r.usuario WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashWithUsuario(@Param("tokenHash") String tokenHash);
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Revoga o token apenas se ainda estiver ativo. Em rotações concorrentes do mesmo token,
+     * somente uma transação altera a linha; as demais recebem {@code 0}.
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revogadoEm = :agora " +
+           "WHERE r.tokenHash = :tokenHash AND r.revogadoEm IS NULL")
+    int revogarSeAtivo(@Param("tokenHash") String tokenHash, @Param("agora") LocalDateTime agora);
+
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revogadoEm = :agora " +
+           "WHERE r.usuario.usuarioId = :usuarioId AND r.revogadoEm IS NULL")
+    int revogarTodosDoUsuario(@Param("usuarioId") UUID usuarioId, @Param("agora") LocalDateTime agora);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiraEm < :agora")
+    int deleteExpirados(@Param("agora") LocalDateTime agora);
+}
@@ -0,0 +1,33 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * Remoção pontual de entradas do cache de segundo nível para os UPDATEs nativos que declaram
+ * espaço de consulta vazio (e por isso não esvaziam regiões inteiras). A remoção roda agora e de
+ * novo após o commit: uma leitura concorrente pode ter recolocado o valor anterior antes dele.
+ */
+final class RemocaoCacheSegundoNivel {
+
+    private RemocaoCacheSegundoNivel() {
+    }
+
+    static void agoraEAposCommit(EntityManager entityManager, Consumer<Cache> remocao) {
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        remocao.accept(cache);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remocao.accept(cache);
+                }
+            });
+        }
+    }
+}
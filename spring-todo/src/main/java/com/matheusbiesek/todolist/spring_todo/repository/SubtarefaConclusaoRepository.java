@@ -0,0 +1,13 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+import java.time.LocalDateTime;
+
+public interface SubtarefaConclusaoRepository {
+
+    /**
+     * Conclui as subtarefas ainda abertas da tarefa e devolve quantas mudaram. As subtarefas são
+     * travadas antes da tarefa (no ajuste dos contadores) e só as entradas desta tarefa saem do
+     * cache de segundo nível.
+     */
+    int concluirTodasDaTarefa(Long tarefaId, LocalDateTime agora);
+}
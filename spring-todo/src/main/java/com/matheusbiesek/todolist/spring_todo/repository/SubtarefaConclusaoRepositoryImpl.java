@@ -0,0 +1,72 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+import com.matheusbiesek.todolist.spring_todo.entity.Subtarefa;
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * SQL nativo em vez de JPQL em massa, pelo mesmo motivo de {@link TarefaContadoresRepositoryImpl}:
+ * o UPDATE em massa esvaziaria a região "subtarefas" inteira. O UPDATE declara espaço de consulta
+ * vazio e saem do cache apenas as subtarefas concluídas e a coleção de subtarefas da tarefa.
+ *
+ * <p>No PostgreSQL um único {@code UPDATE ... RETURNING subtarefa_id} conclui as subtarefas e
+ * devolve os ids. Em outros bancos (H2 dos testes) os ids são lidos antes com
+ * {@code SELECT ... FOR UPDATE}, que trava as mesmas linhas que o UPDATE alterará.
+ */
+class SubtarefaConclusaoRepositoryImpl implements SubtarefaConclusaoRepository {
+
+    private static final String ABERTAS = "FROM app.subtarefas "
+            + "WHERE tarefa_id = :tarefaId AND status <> 'CONCLUIDA'";
+
+    private static final String TRAVAR_ABERTAS = "SELECT subtarefa_id " + ABERTAS + " FOR UPDATE";
+
+    private static final String CONCLUIR_ABERTAS = "UPDATE app.subtarefas "
+            + "SET status = 'CONCLUIDA', atualizado_em = :agora "
+            + "WHERE tarefa_id = :tarefaId AND status <> 'CONCLUIDA'";
+
+    private static final String COLECAO_SUBTAREFAS = Tarefa.class.getName() + ".subtarefas";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int concluirTodasDaTarefa(Long tarefaId, LocalDateTime agora) {
+        List<Long> ids = UpdateReturning.suportado(entityManager)
+                ? ids(consulta(CONCLUIR_ABERTAS + " RETURNING subtarefa_id", tarefaId).setParameter("agora", agora))
+                : travarEConcluir(tarefaId, agora);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        RemocaoCacheSegundoNivel.agoraEAposCommit(entityManager, cache -> {
+            ids.forEach(id -> cache.evictEntityData(Subtarefa.class, id));
+            cache.evictCollectionData(COLECAO_SUBTAREFAS, tarefaId);
+        });
+        return ids.size();
+    }
+
+    private List<Long> travarEConcluir(Long tarefaId, LocalDateTime agora) {
+        List<Long> ids = ids(consulta(TRAVAR_ABERTAS, tarefaId));
+        if (!ids.isEmpty()) {
+            consulta(CONCLUIR_ABERTAS, tarefaId).setParameter("agora", agora).executeUpdate();
+        }
+        return ids;
+    }
+
+    private NativeQuery<?> consulta(String sql, Long tarefaId) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("")
+                .setParameter("tarefaId", tarefaId);
+    }
+
+    private static List<Long> ids(NativeQuery<?> query) {
+        return query.getResultList().stream()
+                .map(id -> ((Number) id).longValue())
+                .toList();
+    }
+}
@@ -1,20 +1,25 @@
 package com.matheusbiesek.todolist.spring_todo.repository;
 
+import com.matheusbiesek.todolist.spring_todo.dto.subtarefa.SubtarefaResponse;
 import com.matheusbiesek.todolist.spring_todo.entity.Subtarefa;
 import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
 import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SubtarefaRepository extends JpaRepository<Subtarefa, Long> {
+public interface SubtarefaRepository extends JpaRepository<Subtarefa, Long>, SubtarefaConclusaoRepository {
 
     List<Subtarefa> findByTarefa(Tarefa tarefa);
 
@@ -24,8 +29,28 @@ public interface SubtarefaRepository extends JpaRepository<Subtarefa, Long> {
 
     Page<Subtarefa> findByTarefaAndStatus(Tarefa tarefa, StatusTarefa status, Pageable pageable);
 
-    long countByTarefaAndStatusNot(Tarefa tarefa, StatusTarefa status);
+    Slice<Subtarefa> findSliceByTarefa(Tarefa tarefa, Pageable pageable);
+
+    Slice<Subtarefa> findSliceByTarefaAndStatus(Tarefa tarefa, StatusTarefa status, Pageable pageable);
+
+    // Subtarefas de uma página de tarefas já projetadas: uma consulta, sem entidades gerenciadas
+    @Query("SELECT new com.matheusbiesek.todolist.spring_todo.dto.subtarefa.SubtarefaResponse(" +
+           "s.subtarefaId, s.tarefa.tarefaId, s.titulo, s.status, s.criadoEm, s.atualizadoEm) " +
+           "FROM Subtarefa s WHERE s.tarefa.tarefaId IN :tarefaIds ORDER BY s.subtarefaId")
+    List<SubtarefaResponse> findResponsesByTarefaIds(@Param("tarefaIds") Collection<Long> tarefaIds);
 
     @Query("SELECT s FROM Subtarefa s JOIN FETCH s.tarefa t JOIN FETCH t.usuario WHERE s.subtarefaId = :id")
     Optional<Subtarefa> findByIdWithTarefaAndUsuario(@Param("id") Long id);
+
+    /**
+     * Lê a subtarefa com SELECT ... FOR UPDATE, só a linha dela. Quem muda status ou exclui calcula
+     * o delta dos contadores a partir do status lido aqui; com a linha travada, duas transições
+     * concorrentes da mesma subtarefa são serializadas e a segunda já enxerga o status gravado.
+     * A ordem dos locks (subtarefa, depois a linha da tarefa no ajuste dos contadores) é a mesma do
+     * {@link #concluirTodasDaTarefa}.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Subtarefa s WHERE s.subtarefaId = :id")
+    Optional<Subtarefa> findByIdParaAtualizacao(@Param("id") Long id);
+
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+public interface TarefaContadoresRepository {
+
+    /**
+     * Soma os deltas aos contadores de subtarefas em um único UPDATE, que trava a linha da tarefa
+     * até o fim da transação: escritas concorrentes na mesma tarefa são serializadas sem perder
+     * incrementos. Só a entrada desta tarefa sai do cache de segundo nível.
+     */
+    int ajustarContadoresSubtarefas(Long tarefaId, int total, int pendentes);
+}
@@ -0,0 +1,37 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+/**
+ * UPDATE nativo em vez de JPQL em massa: um UPDATE em massa faz o Hibernate esvaziar a região
+ * "tarefas" (e as coleções das tarefas) para todos os usuários a cada escrita de subtarefa. Aqui o
+ * espaço de consulta é vazio e só a tarefa afetada é removida do cache. A coleção de subtarefas em
+ * cache já é invalidada pelo {@code auto_evict_collection_cache} ao salvar ou excluir a subtarefa.
+ */
+class TarefaContadoresRepositoryImpl implements TarefaContadoresRepository {
+
+    private static final String AJUSTAR_CONTADORES = "UPDATE app.tarefas SET "
+            + "subtarefas_total = subtarefas_total + :total, "
+            + "subtarefas_pendentes = subtarefas_pendentes + :pendentes "
+            + "WHERE tarefa_id = :tarefaId";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int ajustarContadoresSubtarefas(Long tarefaId, int total, int pendentes) {
+        int alteradas = entityManager.createNativeQuery(AJUSTAR_CONTADORES)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("")
+                .setParameter("total", total)
+                .setParameter("pendentes", pendentes)
+                .setParameter("tarefaId", tarefaId)
+                .executeUpdate();
+        RemocaoCacheSegundoNivel.agoraEAposCommit(entityManager,
+                cache -> cache.evictEntityData(Tarefa.class, tarefaId));
+        return alteradas;
+    }
+}
@@ -0,0 +1,12 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import org.springframework.data.jpa.domain.Specification;
+
+/** Escritas em massa sobre tarefas selecionadas pelos mesmos {@link TarefaSpecifications} das listagens. */
+public interface TarefaLoteRepository {
+
+    /** Um único UPDATE de status nas tarefas que atendem a {@code spec}; devolve quantas mudaram. */
+    int atualizarStatus(Specification<Tarefa> spec, StatusTarefa status);
+}
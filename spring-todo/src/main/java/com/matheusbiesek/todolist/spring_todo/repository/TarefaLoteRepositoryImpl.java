@@ -0,0 +1,38 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@link CriteriaUpdate} com o predicado da {@link Specification}. Os predicados de
+ * {@link TarefaSpecifications} não usam a {@code CriteriaQuery}, por isso ela vai nula. Um UPDATE
+ * em massa não passa por {@code @UpdateTimestamp}, então atualizado_em é definido aqui; e, como as
+ * tarefas alteradas não são conhecidas de antemão, o Hibernate invalida a região "tarefas" do
+ * cache de segundo nível.
+ */
+class TarefaLoteRepositoryImpl implements TarefaLoteRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int atualizarStatus(Specification<Tarefa> spec, StatusTarefa status) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Tarefa> update = cb.createCriteriaUpdate(Tarefa.class);
+        Root<Tarefa> tarefa = update.from(Tarefa.class);
+
+        update.set(tarefa.<StatusTarefa>get("status"), status)
+                .set(tarefa.<LocalDateTime>get("atualizadoEm"), LocalDateTime.now())
+                .where(spec.toPredicate(tarefa, null, cb));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -0,0 +1,35 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaResponse;
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Listagens somente leitura de tarefas projetadas direto em {@link TarefaResponse}, sem
+ * entidades gerenciadas. As subtarefas não são preenchidas aqui; ficam a cargo de quem chama.
+ */
+public interface TarefaProjecaoRepository {
+
+    Page<TarefaResponse> findResponses(Specification<Tarefa> spec, Pageable pageable);
+
+    /** Como {@link #findResponses(Specification, Pageable)}, mas sem o COUNT. */
+    Slice<TarefaResponse> findSliceResponses(Specification<Tarefa> spec, Pageable pageable);
+
+    List<TarefaResponse> findResponses(Specification<Tarefa> spec, Sort sort, int limite);
+
+    /**
+     * Seleciona apenas os {@code campos} pedidos (ver {@code CamposTarefa}), um mapa por tarefa
+     * na ordem recebida. A chave {@code subtarefas}, se pedida, vem reservada com {@code null}.
+     */
+    Page<Map<String, Object>> findCampos(Specification<Tarefa> spec, Set<String> campos, Pageable pageable);
+
+    Slice<Map<String, Object>> findSliceCampos(Specification<Tarefa> spec, Set<String> campos, Pageable pageable);
+}
@@ -0,0 +1,145 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaResponse;
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import com.matheusbiesek.todolist.spring_todo.util.CamposTarefa;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Consulta com construtor ({@code SELECT new TarefaResponse(...)}) sobre os mesmos
+ * {@link TarefaSpecifications} das listagens de entidades. A quantidade de subtarefas pendentes
+ * é a coluna subtarefas_pendentes, mantida pelo SubtarefaService, sem tocar em app.subtarefas.
+ * Com {@code fields}, a consulta de tuplas lista só as colunas pedidas.
+ */
+class TarefaProjecaoRepositoryImpl implements TarefaProjecaoRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TarefaResponse> findResponses(Specification<Tarefa> spec, Pageable pageable) {
+        List<TarefaResponse> conteudo = buscar(spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        // como no SimpleJpaRepository: sem COUNT quando a página já revela o total
+        return PageableExecutionUtils.getPage(conteudo, pageable, () -> contar(spec));
+    }
+
+    @Override
+    public Slice<TarefaResponse> findSliceResponses(Specification<Tarefa> spec, Pageable pageable) {
+        return fatiar(buscar(spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize() + 1), pageable);
+    }
+
+    @Override
+    public List<TarefaResponse> findResponses(Specification<Tarefa> spec, Sort sort, int limite) {
+        return buscar(spec, sort, 0, limite);
+    }
+
+    @Override
+    public Page<Map<String, Object>> findCampos(Specification<Tarefa> spec, Set<String> campos, Pageable pageable) {
+        List<Map<String, Object>> conteudo = buscarCampos(spec, campos, pageable.getSort(), pageable.getOffset(),
+                pageable.getPageSize());
+        return PageableExecutionUtils.getPage(conteudo, pageable, () -> contar(spec));
+    }
+
+    @Override
+    public Slice<Map<String, Object>> findSliceCampos(Specification<Tarefa> spec, Set<String> campos,
+                                                      Pageable pageable) {
+        return fatiar(buscarCampos(spec, campos, pageable.getSort(), pageable.getOffset(),
+                pageable.getPageSize() + 1), pageable);
+    }
+
+    private List<TarefaResponse> buscar(Specification<Tarefa> spec, Sort sort, long inicio, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TarefaResponse> query = cb.createQuery(TarefaResponse.class);
+        Root<Tarefa> tarefa = query.from(Tarefa.class);
+
+        query.select(cb.construct(TarefaResponse.class,
+                tarefa.get("tarefaId"),
+                tarefa.get("titulo"),
+                tarefa.get("descricao"),
+                tarefa.get("dataVencimento"),
+                tarefa.get("status"),
+                tarefa.get("prioridade"),
+                tarefa.get("criadoEm"),
+                tarefa.get("atualizadoEm"),
+                tarefa.get("subtarefasPendentes")));
+        return executar(query, tarefa, spec, sort, inicio, limite);
+    }
+
+    private List<Map<String, Object>> buscarCampos(Specification<Tarefa> spec, Set<String> campos, Sort sort,
+                                                   long inicio, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Tarefa> tarefa = query.from(Tarefa.class);
+
+        List<Selection<?>> selecoes = new ArrayList<>();
+        for (String campo : campos) {
+            if (!campo.equals(CamposTarefa.SUBTAREFAS)) {
+                selecoes.add(tarefa.get(campo).alias(campo));
+            }
+        }
+        query.multiselect(selecoes);
+
+        return executar(query, tarefa, spec, sort, inicio, limite).stream()
+                .map(tupla -> {
+                    Map<String, Object> linha = new LinkedHashMap<>();
+                    campos.forEach(campo -> linha.put(campo,
+                            campo.equals(CamposTarefa.SUBTAREFAS) ? null : tupla.get(campo)));
+                    return linha;
+                })
+                .toList();
+    }
+
+    private <R> List<R> executar(CriteriaQuery<R> query, Root<Tarefa> tarefa, Specification<Tarefa> spec,
+                                 Sort sort, long inicio, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        Predicate filtro = spec.toPredicate(tarefa, query, cb);
+        if (filtro != null) {
+            query.where(filtro);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, tarefa, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(inicio))
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    private <T> Slice<T> fatiar(List<T> conteudo, Pageable pageable) {
+        boolean temProxima = conteudo.size() > pageable.getPageSize();
+        return new SliceImpl<>(temProxima ? conteudo.subList(0, pageable.getPageSize()) : conteudo,
+                pageable, temProxima);
+    }
+
+    private long contar(Specification<Tarefa> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Tarefa> tarefa = query.from(Tarefa.class);
+        query.select(cb.count(tarefa));
+        Predicate filtro = spec.toPredicate(tarefa, query, cb);
+        if (filtro != null) {
+            query.where(filtro);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -7,16 +7,21 @@ import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
+public interface TarefaRepository extends JpaRepository<Tarefa, Long>, JpaSpecificationExecutor<Tarefa>,
+        TarefaProjecaoRepository, TarefaLoteRepository, TarefaTransicaoRepository, TarefaContadoresRepository {
 
     List<Tarefa> findByUsuario(Usuario usuario);
 
@@ -30,27 +35,56 @@ public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
 
     Page<Tarefa> findByUsuarioAndDataVencimentoBefore(Usuario usuario, LocalDate data, Pageable pageable);
 
-    @Query("SELECT t FROM Tarefa t WHERE t.usuario = :usuario " +
-           "AND (:status IS NULL OR t.status = :status) " +
-           "AND (:prioridade IS NULL OR t.prioridade = :prioridade) " +
-           "AND (:dataVencimento IS NULL OR t.dataVencimento = :dataVencimento)")
-    List<Tarefa> findByUsuarioWithFilters(@Param("usuario") Usuario usuario,
-                                         @Param("status") StatusTarefa status,
-                                         @Param("prioridade") Prioridade prioridade,
-                                         @Param("dataVencimento") LocalDate dataVencimento);
-
-    @Query("SELECT t FROM Tarefa t WHERE t.usuario = :usuario " +
-           "AND (:status IS NULL OR t.status = :status) " +
-           "AND (:prioridade IS NULL OR t.prioridade = :prioridade) " +
-           "AND (:dataVencimento IS NULL OR t.dataVencimento = :dataVencimento)")
-    Page<Tarefa> findByUsuarioWithFilters(@Param("usuario") Usuario usuario,
-                                         @Param("status") StatusTarefa status,
-                                         @Param("prioridade") Prioridade prioridade,
-                                         @Param("dataVencimento") LocalDate dataVencimento,
-                                         Pageable pageable);
-
     Optional<Tarefa> findByTarefaIdAndUsuario(Long tarefaId, Usuario usuario);
 
-    @Query("SELECT COUNT(s) > 0 FROM Subtarefa s WHERE s.tarefa = :tarefa AND s.status != 'CONCLUIDA'")
+    @Query("SELECT t FROM Tarefa t WHERE t.tarefaId = :tarefaId AND t.usuario.usuarioId = :usuarioId")
+    Optional<Tarefa> findByTarefaIdAndUsuarioId(@Param("tarefaId") Long tarefaId,
+                                               @Param("usuarioId") UUID usuarioId);
+
+    /**
+     * Contagens para /api/tarefas/estatisticas em uma só consulta: no máximo uma linha por
+     * combinação de status e prioridade, somadas no serviço.
+     */
+    @Query("SELECT t.status AS status, t.prioridade AS prioridade, COUNT(t) AS total, "
+            + "SUM(CASE WHEN t.dataVencimento < :hoje THEN 1 ELSE 0 END) AS vencidas "
+            + "FROM Tarefa t WHERE t.usuario.usuarioId = :usuarioId GROUP BY t.status, t.prioridade")
+    List<ContagemTarefas> contarPorStatusEPrioridade(@Param("usuarioId") UUID usuarioId,
+                                                     @Param("hoje") LocalDate hoje);
+
+    @Query("SELECT COUNT(t) > 0 FROM Tarefa t WHERE t.tarefaId = :tarefaId AND t.usuario.usuarioId = :usuarioId")
+    boolean existsByTarefaIdAndUsuarioId(@Param("tarefaId") Long tarefaId, @Param("usuarioId") UUID usuarioId);
+
+    @Query("SELECT t.subtarefasPendentes > 0 FROM Tarefa t WHERE t = :tarefa")
     boolean hasSubtarefasPendentes(@Param("tarefa") Tarefa tarefa);
-}
\ No newline at end of file
+
+    @Query("SELECT MIN(t.tarefaId) FROM Tarefa t")
+    Long findMenorTarefaId();
+
+    @Query("SELECT MAX(t.tarefaId) FROM Tarefa t")
+    Long findMaiorTarefaId();
+
+    /**
+     * Recalcula os contadores das tarefas da faixa {@code [inicio, fim]} que divergem das
+     * subtarefas gravadas e devolve quantas foram corrigidas.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Tarefa t SET "
+            + "t.subtarefasTotal = (SELECT COUNT(s) FROM Subtarefa s WHERE s.tarefa = t), "
+            + "t.subtarefasPendentes = (SELECT COUNT(s) FROM Subtarefa s WHERE s.tarefa = t AND s.status != 'CONCLUIDA') "
+            + "WHERE t.tarefaId BETWEEN :inicio AND :fim AND ("
+            + "t.subtarefasTotal != (SELECT COUNT(s) FROM Subtarefa s WHERE s.tarefa = t) OR "
+            + "t.subtarefasPendentes != (SELECT COUNT(s) FROM Subtarefa s WHERE s.tarefa = t AND s.status != 'CONCLUIDA'))")
+    int repararContadoresSubtarefas(@Param("inicio") Long inicio, @Param("fim") Long fim);
+
+    interface ContagemTarefas {
+
+        StatusTarefa getStatus();
+
+        Prioridade getPrioridade();
+
+        Long getTotal();
+
+        Long getVencidas();
+    }
+}
@@ -0,0 +1,96 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaFiltro;
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import com.matheusbiesek.todolist.spring_todo.util.CursorTarefa;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Predicados das listagens de tarefas. Só entram na consulta os filtros informados, então
+ * cada combinação gera um SQL próprio que o PostgreSQL planeja com os índices certos (em vez
+ * de um {@code :param IS NULL OR ...} genérico). Os valores são sempre parâmetros: o texto do
+ * SQL depende apenas de quais filtros estão presentes, então cada formato vira um prepared
+ * statement reaproveitado pelo driver ({@code hibernate.query.in_clause_parameter_padding}
+ * mantém poucos formatos para o IN).
+ */
+public final class TarefaSpecifications {
+
+    private TarefaSpecifications() {
+    }
+
+    public static Specification<Tarefa> comFiltro(UUID usuarioId, TarefaFiltro filtro) {
+        Specification<Tarefa> spec = doUsuario(usuarioId);
+        if (filtro == null) {
+            return spec;
+        }
+        if (filtro.getStatus() != null && !filtro.getStatus().isEmpty()) {
+            spec = spec.and(emValores("status", filtro.getStatus()));
+        }
+        if (filtro.getPrioridade() != null && !filtro.getPrioridade().isEmpty()) {
+            spec = spec.and(emValores("prioridade", filtro.getPrioridade()));
+        }
+        if (filtro.getDataVencimento() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("dataVencimento"), filtro.getDataVencimento()));
+        }
+        if (filtro.getVencimentoDe() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.greaterThanOrEqualTo(root.get("dataVencimento"), filtro.getVencimentoDe()));
+        }
+        if (filtro.getVencimentoAte() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.lessThanOrEqualTo(root.get("dataVencimento"), filtro.getVencimentoAte()));
+        }
+        return spec;
+    }
+
+    public static Specification<Tarefa> doUsuario(UUID usuarioId) {
+        // usuario.usuarioId é a própria FK: não gera JOIN com usuarios
+        return (root, query, cb) -> cb.equal(root.get("usuario").get("usuarioId"), usuarioId);
+    }
+
+    public static Specification<Tarefa> comIds(Collection<Long> tarefaIds) {
+        return emValores("tarefaId", tarefaIds);
+    }
+
+    public static Specification<Tarefa> comStatusDiferenteDe(StatusTarefa status) {
+        return (root, query, cb) -> cb.notEqual(root.get("status"), status);
+    }
+
+    /** Lê o contador subtarefas_pendentes da própria linha, sem subconsulta em app.subtarefas. */
+    public static Specification<Tarefa> semSubtarefasPendentes() {
+        return (root, query, cb) -> cb.equal(root.get("subtarefasPendentes"), 0);
+    }
+
+    public static Specification<Tarefa> venceAntesDe(LocalDate data) {
+        return (root, query, cb) -> cb.lessThan(root.get("dataVencimento"), data);
+    }
+
+    /**
+     * {@code criado_em < :criadoEm OR (criado_em = :criadoEm AND tarefa_id < :tarefaId)}, a forma
+     * expandida da comparação de tuplas, que o PostgreSQL resolve como faixa no índice
+     * idx_tarefas_usuario_criado_em.
+     */
+    public static Specification<Tarefa> aposCursor(CursorTarefa cursor) {
+        return (root, query, cb) -> {
+            Path<LocalDateTime> criadoEm = root.get("criadoEm");
+            Path<Long> tarefaId = root.get("tarefaId");
+            return cb.or(
+                    cb.lessThan(criadoEm, cursor.criadoEm()),
+                    cb.and(cb.equal(criadoEm, cursor.criadoEm()), cb.lessThan(tarefaId, cursor.tarefaId())));
+        };
+    }
+
+    private static Specification<Tarefa> emValores(String atributo, Collection<?> valores) {
+        return (root, query, cb) -> {
+            Path<Object> caminho = root.get(atributo);
+            return valores.size() == 1 ? cb.equal(caminho, valores.iterator().next()) : caminho.in(valores);
+        };
+    }
+}
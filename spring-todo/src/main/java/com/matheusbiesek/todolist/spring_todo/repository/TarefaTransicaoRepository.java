@@ -0,0 +1,24 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TarefaTransicaoRepository {
+
+    /**
+     * Troca o status da tarefa em um único UPDATE condicional: só altera a linha se ela for do
+     * usuário e, para CONCLUIDA, não tiver subtarefas pendentes. Devolve a tarefa já atualizada
+     * ou vazio quando nenhuma linha atendeu às condições.
+     */
+    Optional<Tarefa> transicionarStatus(Long tarefaId, UUID usuarioId, StatusTarefa status);
+
+    /**
+     * Mesmo UPDATE condicional para uma tarefa já gerenciada nesta transação: as alterações
+     * pendentes dela são gravadas antes e, se o status mudar, a instância é relida do banco.
+     * Devolve {@code false} quando a condição barrou a troca.
+     */
+    boolean transicionarStatus(Tarefa tarefa, StatusTarefa status);
+}
@@ -0,0 +1,96 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * No PostgreSQL, {@code UPDATE ... RETURNING *} devolve a linha alterada no mesmo round trip,
+ * já mapeada para {@link Tarefa}. Em outros bancos (H2 dos testes) o mesmo UPDATE é seguido de
+ * uma releitura pela chave. A condição de subtarefas pendentes usa o contador da própria linha:
+ * como toda escrita de subtarefa atualiza esse contador na mesma linha, o UPDATE concorrente
+ * espera o lock e reavalia o WHERE, sem a janela entre verificar e gravar.
+ *
+ * <p>O SQL nativo declara um espaço de consulta vazio para que o Hibernate não esvazie a região
+ * "tarefas" inteira do cache de segundo nível; a linha devolvida não é colocada no cache e só a
+ * entrada desta tarefa é removida ({@link RemocaoCacheSegundoNivel}).
+ */
+class TarefaTransicaoRepositoryImpl implements TarefaTransicaoRepository {
+
+    private static final String UPDATE_STATUS = "UPDATE app.tarefas SET status = :status, atualizado_em = :agora "
+            + "WHERE tarefa_id = :tarefaId AND usuario_id = :usuarioId";
+
+    private static final String SEM_SUBTAREFAS_PENDENTES = " AND subtarefas_pendentes = 0";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Tarefa> transicionarStatus(Long tarefaId, UUID usuarioId, StatusTarefa status) {
+        String sql = sql(status);
+        return UpdateReturning.suportado(entityManager)
+                ? atualizarComReturning(sql, tarefaId, usuarioId, status)
+                : atualizarERelerTarefa(sql, tarefaId, usuarioId, status);
+    }
+
+    @Override
+    public boolean transicionarStatus(Tarefa tarefa, StatusTarefa status) {
+        entityManager.flush();
+        NativeQuery<?> query = entityManager.createNativeQuery(sql(status)).unwrap(NativeQuery.class);
+        if (parametros(query, tarefa.getTarefaId(), tarefa.getUsuario().getUsuarioId(), status).executeUpdate() == 0) {
+            return false;
+        }
+        removerDoCache(tarefa.getTarefaId());
+        entityManager.refresh(tarefa);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<Tarefa> atualizarComReturning(String sql, Long tarefaId, UUID usuarioId, StatusTarefa status) {
+        NativeQuery<Tarefa> query = entityManager.createNativeQuery(sql + " RETURNING *", Tarefa.class)
+                .unwrap(NativeQuery.class);
+        List<Tarefa> linhas = parametros(query, tarefaId, usuarioId, status)
+                .setCacheMode(CacheMode.IGNORE)
+                .getResultList();
+        if (linhas.isEmpty()) {
+            return Optional.empty();
+        }
+        removerDoCache(tarefaId);
+        return Optional.of(linhas.get(0));
+    }
+
+    private Optional<Tarefa> atualizarERelerTarefa(String sql, Long tarefaId, UUID usuarioId, StatusTarefa status) {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        if (parametros(query, tarefaId, usuarioId, status).executeUpdate() == 0) {
+            return Optional.empty();
+        }
+        removerDoCache(tarefaId);
+        return Optional.ofNullable(entityManager.find(Tarefa.class, tarefaId));
+    }
+
+    private static String sql(StatusTarefa status) {
+        return status == StatusTarefa.CONCLUIDA ? UPDATE_STATUS + SEM_SUBTAREFAS_PENDENTES : UPDATE_STATUS;
+    }
+
+    private <Q extends NativeQuery<?>> Q parametros(Q query, Long tarefaId, UUID usuarioId, StatusTarefa status) {
+        query.addSynchronizedQuerySpace("")
+                .setParameter("status", status.name())
+                .setParameter("agora", LocalDateTime.now())
+                .setParameter("tarefaId", tarefaId)
+                .setParameter("usuarioId", usuarioId);
+        return query;
+    }
+
+    private void removerDoCache(Long tarefaId) {
+        RemocaoCacheSegundoNivel.agoraEAposCommit(entityManager,
+                cache -> cache.evictEntityData(Tarefa.class, tarefaId));
+    }
+}
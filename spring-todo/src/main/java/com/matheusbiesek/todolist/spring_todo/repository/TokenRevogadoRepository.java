@@ -0,0 +1,26 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+import com.matheusbiesek.todolist.spring_todo.entity.TokenRevogado;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TokenRevogadoRepository extends JpaRepository<TokenRevogado, UUID> {
+
+    List<TokenRevogado> findByExpiraEmAfter(Instant agora);
+
+    List<TokenRevogado> findByRevogadoEmGreaterThanEqualAndExpiraEmAfter(Instant desde, Instant agora);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TokenRevogado t WHERE t.expiraEm < :agora")
+    int deleteExpirados(@Param("agora") Instant agora);
+}
@@ -0,0 +1,20 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * {@code UPDATE ... RETURNING} devolve as linhas alteradas no mesmo round trip do UPDATE. Dos
+ * bancos usados, só o PostgreSQL o suporta; no H2 dos testes os repositórios seguem outro caminho.
+ */
+final class UpdateReturning {
+
+    private UpdateReturning() {
+    }
+
+    static boolean suportado(EntityManager entityManager) {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+}
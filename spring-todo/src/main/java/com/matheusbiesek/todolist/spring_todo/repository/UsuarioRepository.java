@@ -1,9 +1,14 @@
 package com.matheusbiesek.todolist.spring_todo.repository;
 
 import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,4 +22,28 @@ public interface UsuarioRepository extends JpaRepository<Usuario, UUID> {
     boolean existsByNomeUsuario(String nomeUsuario);
 
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    @Query("SELECT u.usuarioId AS usuarioId, u.nomeUsuario AS nomeUsuario, u.email AS email "
+            + "FROM Usuario u ORDER BY u.usuarioId")
+    List<IdentificacaoUsuario> findIdentificacoes(Limit limit);
+
+    /**
+     * Próximo lote após {@code ultimo} em ordem de id (keyset): cada lote é uma busca pela chave
+     * primária, sem o OFFSET que faria o banco percorrer e descartar os lotes anteriores.
+     */
+    @Query("SELECT u.usuarioId AS usuarioId, u.nomeUsuario AS nomeUsuario, u.email AS email "
+            + "FROM Usuario u WHERE u.usuarioId > :ultimo ORDER BY u.usuarioId")
+    List<IdentificacaoUsuario> findIdentificacoesApos(@Param("ultimo") UUID ultimo, Limit limit);
+
+    @Modifying
+    @Query("UPDATE Usuario u SET u.senhaHash = :senhaHash WHERE u.usuarioId = :usuarioId")
+    int atualizarSenhaHash(@Param("usuarioId") UUID usuarioId, @Param("senhaHash") String senhaHash);
+
+    interface IdentificacaoUsuario {
+        UUID getUsuarioId();
+
+        String getNomeUsuario();
+
+        String getEmail();
+    }
+}
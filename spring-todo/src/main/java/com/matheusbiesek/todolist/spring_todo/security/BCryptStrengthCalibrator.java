@@ -0,0 +1,32 @@
+package com.matheusbiesek.todolist.spring_todo.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Escolhe a força (log2 de rounds) do BCrypt para que um hash leve aproximadamente o tempo
+ * alvo neste hardware. Cada incremento de força dobra o custo, então basta medir a força
+ * mínima e extrapolar.
+ */
+public final class BCryptStrengthCalibrator {
+
+    private static final String SENHA_CALIBRACAO = "calibracao-bcrypt";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrar(long tempoAlvoMs, int forcaMinima, int forcaMaxima) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(forcaMinima);
+        encoder.encode(SENHA_CALIBRACAO);
+
+        long inicio = System.nanoTime();
+        encoder.encode(SENHA_CALIBRACAO);
+        double tempoMs = Math.max((System.nanoTime() - inicio) / 1_000_000.0, 0.001);
+
+        int forca = forcaMinima;
+        while (forca < forcaMaxima && tempoMs * 2 <= tempoAlvoMs) {
+            forca++;
+            tempoMs *= 2;
+        }
+        return forca;
+    }
+}
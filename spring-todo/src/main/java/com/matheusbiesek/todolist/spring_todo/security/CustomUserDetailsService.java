@@ -4,13 +4,15 @@ import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
 import com.matheusbiesek.todolist.spring_todo.repository.UsuarioRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UsuarioRepository usuarioRepository;
 
@@ -21,4 +23,17 @@ public class CustomUserDetailsService implements UserDetailsService {
         
         return new CustomUserDetails(usuario);
     }
+
+    /**
+     * Chamado pelo DaoAuthenticationProvider após um login bem-sucedido quando o hash armazenado
+     * usa uma força de BCrypt menor que a atual.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Usuario usuario = ((CustomUserDetails) user).getUsuario();
+        usuarioRepository.atualizarSenhaHash(usuario.getUsuarioId(), newPassword);
+        usuario.setSenhaHash(newPassword);
+        return new CustomUserDetails(usuario);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.matheusbiesek.todolist.spring_todo.security;
 
 import com.matheusbiesek.todolist.spring_todo.service.JwtService;
+import com.matheusbiesek.todolist.spring_todo.service.RevogacaoTokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -21,6 +22,7 @@ import java.util.UUID;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
+    private final RevogacaoTokenService revogacaoTokenService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -29,25 +31,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         String token = extractTokenFromCookies(request);
         
-        if (token != null && jwtService.validateToken(token)) {
-            try {
-                UUID userId = jwtService.getUserIdFromToken(token);
-                UserContext.setUserId(userId);
-                
-                UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            } catch (Exception e) {
-                UserContext.clear();
-                SecurityContextHolder.clearContext();
-            }
+        if (token != null) {
+            jwtService.verifyToken(token)
+                    .filter(tokenVerificado -> !revogacaoTokenService.isRevogado(tokenVerificado))
+                    .ifPresent(tokenVerificado -> {
+                        UUID userId = tokenVerificado.usuarioId();
+                        
+                        UsernamePasswordAuthenticationToken authentication = 
+                            new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    });
         }
         
-        try {
-            filterChain.doFilter(request, response);
-        } finally {
-            UserContext.clear();
-        }
+        filterChain.doFilter(request, response);
     }
 
     private String extractTokenFromCookies(HttpServletRequest request) {
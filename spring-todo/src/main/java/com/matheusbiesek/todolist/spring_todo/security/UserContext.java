@@ -2,19 +2,24 @@ package com.matheusbiesek.todolist.spring_todo.security;
 
 import java.util.UUID;
 
-public class UserContext {
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 
-    private static final ThreadLocal<UUID> userIdHolder = new ThreadLocal<>();
+/**
+ * Usuário autenticado da requisição atual. Lê o principal que o JwtAuthenticationFilter coloca
+ * no SecurityContext, sem manter um ThreadLocal próprio: o contexto do Spring Security já é
+ * populado e limpo a cada requisição, inclusive quando ela roda em uma virtual thread.
+ */
+public class UserContext {
 
-    public static void setUserId(UUID userId) {
-        userIdHolder.set(userId);
+    private UserContext() {
     }
 
     public static UUID getUserId() {
-        return userIdHolder.get();
-    }
-
-    public static void clear() {
-        userIdHolder.remove();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UUID userId) {
+            return userId;
+        }
+        return null;
     }
-}
\ No newline at end of file
+}
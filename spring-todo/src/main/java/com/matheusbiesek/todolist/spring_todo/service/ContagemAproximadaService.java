@@ -0,0 +1,103 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaFiltro;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Total aproximado para as listagens sem COUNT. No PostgreSQL o valor é a estimativa de linhas
+ * do planejador ({@code EXPLAIN}), derivada de {@code pg_class.reltuples} e {@code pg_stats}:
+ * custa só o planejamento, mas depende do último ANALYZE. Em outros bancos faz o COUNT exato.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContagemAproximadaService {
+
+    public static final String HEADER_TOTAL_APROXIMADO = "X-Total-Aproximado";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    private volatile Boolean postgres;
+
+    public long estimarTarefas(UUID usuarioId, TarefaFiltro filtro) {
+        StringBuilder sql = new StringBuilder("FROM app.tarefas WHERE usuario_id = ?");
+        List<Object> parametros = new ArrayList<>(List.of(usuarioId));
+        if (filtro != null) {
+            adicionarEm(sql, parametros, "status", filtro.getStatus());
+            adicionarEm(sql, parametros, "prioridade", filtro.getPrioridade());
+            adicionarCondicao(sql, parametros, "data_vencimento = ?", filtro.getDataVencimento());
+            adicionarCondicao(sql, parametros, "data_vencimento >= ?", filtro.getVencimentoDe());
+            adicionarCondicao(sql, parametros, "data_vencimento <= ?", filtro.getVencimentoAte());
+        }
+        return estimar(sql.toString(), parametros, "tarefas");
+    }
+
+    public long estimarTarefasVencidas(UUID usuarioId) {
+        return estimar("FROM app.tarefas WHERE usuario_id = ? AND data_vencimento < ?",
+                List.of(usuarioId, LocalDate.now()), "tarefas vencidas");
+    }
+
+    public long estimarSubtarefas(Long tarefaId, StatusTarefa status) {
+        if (status == null) {
+            return estimar("FROM app.subtarefas WHERE tarefa_id = ?", List.of(tarefaId), "subtarefas");
+        }
+        return estimar("FROM app.subtarefas WHERE tarefa_id = ? AND status = ?",
+                List.of(tarefaId, status.name()), "subtarefas");
+    }
+
+    private void adicionarEm(StringBuilder sql, List<Object> parametros, String coluna, List<? extends Enum<?>> valores) {
+        if (valores == null || valores.isEmpty()) {
+            return;
+        }
+        sql.append(" AND ").append(coluna).append(" IN (")
+                .append(String.join(", ", Collections.nCopies(valores.size(), "?"))).append(")");
+        valores.forEach(valor -> parametros.add(valor.name()));
+    }
+
+    private void adicionarCondicao(StringBuilder sql, List<Object> parametros, String condicao, Object valor) {
+        if (valor != null) {
+            sql.append(" AND ").append(condicao);
+            parametros.add(valor);
+        }
+    }
+
+    private long estimar(String from, List<Object> parametros, String descricao) {
+        try {
+            if (!isPostgres()) {
+                Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) " + from, Long.class, parametros.toArray());
+                return total != null ? total : 0L;
+            }
+            String plano = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) SELECT 1 " + from, String.class,
+                    parametros.toArray());
+            JsonNode raiz = objectMapper.readTree(plano);
+            return raiz.path(0).path("Plan").path("Plan Rows").asLong();
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao estimar total de " + descricao + ": " + e.getMessage(), e);
+        }
+    }
+
+    private boolean isPostgres() {
+        Boolean resultado = postgres;
+        if (resultado == null) {
+            resultado = jdbcTemplate.execute((ConnectionCallback<Boolean>) conexao ->
+                    "PostgreSQL".equals(conexao.getMetaData().getDatabaseProductName()));
+            postgres = resultado;
+            log.info("Total aproximado das listagens via {}", Boolean.TRUE.equals(resultado) ? "EXPLAIN" : "COUNT exato");
+        }
+        return Boolean.TRUE.equals(resultado);
+    }
+}
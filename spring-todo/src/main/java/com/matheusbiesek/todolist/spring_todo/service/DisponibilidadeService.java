@@ -0,0 +1,161 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.dto.auth.DisponibilidadeResponse;
+import com.matheusbiesek.todolist.spring_todo.repository.UsuarioRepository;
+import com.matheusbiesek.todolist.spring_todo.repository.UsuarioRepository.IdentificacaoUsuario;
+import com.matheusbiesek.todolist.spring_todo.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Disponibilidade de nome de usuário e email para o formulário de cadastro. Um Bloom filter
+ * em memória responde "com certeza livre" sem consultar o banco; apenas possíveis colisões
+ * são confirmadas com existsByNomeUsuario / existsByEmail.
+ *
+ * <p>Os filtros são construídos a partir de app.usuarios quando a aplicação sobe e
+ * reconstruídos periodicamente (remove usuários excluídos e redimensiona). Até a primeira
+ * construção todas as consultas vão ao banco. Um "livre" incorreto nunca gera duplicidade:
+ * o INSERT do registro continua protegido pelas constraints únicas.
+ */
+@Service
+@Slf4j
+public class DisponibilidadeService {
+
+    private static final int TAMANHO_LOTE_CONSTRUCAO = 10_000;
+
+    private record Filtros(BloomFilter nomesUsuario, BloomFilter emails) {
+    }
+
+    private final UsuarioRepository usuarioRepository;
+    private final long capacidadeEsperada;
+    private final double taxaFalsoPositivo;
+
+    private volatile Filtros filtros;
+    private volatile Filtros filtrosEmConstrucao;
+
+    private final Counter respondidasPeloFiltro;
+    private final Counter respondidasPeloBanco;
+    private final Counter falsosPositivos;
+
+    public DisponibilidadeService(UsuarioRepository usuarioRepository,
+                                  @Value("${app.auth.disponibilidade.capacidade-esperada:100000}") long capacidadeEsperada,
+                                  @Value("${app.auth.disponibilidade.taxa-falso-positivo:0.01}") double taxaFalsoPositivo,
+                                  MeterRegistry meterRegistry) {
+        this.usuarioRepository = usuarioRepository;
+        this.capacidadeEsperada = capacidadeEsperada;
+        this.taxaFalsoPositivo = taxaFalsoPositivo;
+
+        this.respondidasPeloFiltro = Counter.builder("disponibilidade.consultas")
+                .tag("origem", "bloom")
+                .register(meterRegistry);
+        this.respondidasPeloBanco = Counter.builder("disponibilidade.consultas")
+                .tag("origem", "banco")
+                .register(meterRegistry);
+        this.falsosPositivos = Counter.builder("disponibilidade.falsos-positivos")
+                .description("Possíveis colisões do Bloom filter que o banco mostrou estarem livres")
+                .register(meterRegistry);
+
+        registrarGauges(meterRegistry, "nome_usuario", Filtros::nomesUsuario);
+        registrarGauges(meterRegistry, "email", Filtros::emails);
+    }
+
+    public DisponibilidadeResponse verificar(String nomeUsuario, String email) {
+        Filtros atuais = filtros;
+        Boolean nomeUsuarioDisponivel = nomeUsuario == null ? null : disponivel(nomeUsuario,
+                atuais == null ? null : atuais.nomesUsuario(), usuarioRepository::existsByNomeUsuario);
+        Boolean emailDisponivel = email == null ? null : disponivel(email,
+                atuais == null ? null : atuais.emails(), usuarioRepository::existsByEmail);
+        return new DisponibilidadeResponse(nomeUsuarioDisponivel, emailDisponivel);
+    }
+
+    /** Deve ser chamado após cada registro bem-sucedido. */
+    public void registrar(String nomeUsuario, String email) {
+        adicionar(filtros, nomeUsuario, email);
+        adicionar(filtrosEmConstrucao, nomeUsuario, email);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.auth.disponibilidade.reconstrucao-ms:3600000}",
+               fixedDelayString = "${app.auth.disponibilidade.reconstrucao-ms:3600000}")
+    public void reconstruir() {
+        try {
+            long inicio = System.nanoTime();
+            long total = usuarioRepository.count();
+            long capacidade = Math.max(capacidadeEsperada, total * 2);
+            Filtros novos = new Filtros(new BloomFilter(capacidade, taxaFalsoPositivo),
+                    new BloomFilter(capacidade, taxaFalsoPositivo));
+            filtrosEmConstrucao = novos;
+
+            Limit limite = Limit.of(TAMANHO_LOTE_CONSTRUCAO);
+            List<IdentificacaoUsuario> lote = usuarioRepository.findIdentificacoes(limite);
+            while (!lote.isEmpty()) {
+                lote.forEach(usuario -> adicionar(novos, usuario.getNomeUsuario(), usuario.getEmail()));
+                if (lote.size() < TAMANHO_LOTE_CONSTRUCAO) {
+                    break;
+                }
+                lote = usuarioRepository.findIdentificacoesApos(lote.get(lote.size() - 1).getUsuarioId(), limite);
+            }
+
+            filtros = novos;
+            log.info("Filtros de disponibilidade construídos com {} usuários em {} ms ({} bytes cada)",
+                    total, (System.nanoTime() - inicio) / 1_000_000, novos.nomesUsuario().getTamanhoEmBytes());
+        } catch (Exception e) {
+            log.error("Erro ao construir filtros de disponibilidade: {}", e.getMessage(), e);
+        } finally {
+            filtrosEmConstrucao = null;
+        }
+    }
+
+    private boolean disponivel(String valor, BloomFilter filtro, Function<String, Boolean> existeNoBanco) {
+        if (filtro != null && !filtro.mightContain(valor)) {
+            respondidasPeloFiltro.increment();
+            return true;
+        }
+        respondidasPeloBanco.increment();
+        boolean existe = existeNoBanco.apply(valor);
+        if (filtro != null && !existe) {
+            falsosPositivos.increment();
+        }
+        return !existe;
+    }
+
+    private static void adicionar(Filtros alvo, String nomeUsuario, String email) {
+        if (alvo != null) {
+            alvo.nomesUsuario().put(nomeUsuario);
+            alvo.emails().put(email);
+        }
+    }
+
+    private void registrarGauges(MeterRegistry meterRegistry, String campo, Function<Filtros, BloomFilter> seletor) {
+        registrarGauge(meterRegistry, "disponibilidade.bloom.memoria", "bytes", campo,
+                seletor, BloomFilter::getTamanhoEmBytes);
+        registrarGauge(meterRegistry, "disponibilidade.bloom.taxa-falso-positivo-estimada", null, campo,
+                seletor, BloomFilter::getTaxaFalsoPositivoEstimada);
+        Gauge.builder("disponibilidade.bloom.taxa-falso-positivo-configurada", () -> taxaFalsoPositivo)
+                .tag("campo", campo)
+                .register(meterRegistry);
+    }
+
+    private void registrarGauge(MeterRegistry meterRegistry, String nome, String unidade, String campo,
+                                Function<Filtros, BloomFilter> seletor, ToDoubleFunction<BloomFilter> valor) {
+        Gauge.builder(nome, this, servico -> {
+                    Filtros atuais = servico.filtros;
+                    return atuais == null ? Double.NaN : valor.applyAsDouble(seletor.apply(atuais));
+                })
+                .baseUnit(unidade)
+                .tag("campo", campo)
+                .register(meterRegistry);
+    }
+}
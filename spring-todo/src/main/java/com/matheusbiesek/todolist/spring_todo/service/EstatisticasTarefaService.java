@@ -0,0 +1,104 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.matheusbiesek.todolist.spring_todo.config.CacheConfig;
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaEstatisticasResponse;
+import com.matheusbiesek.todolist.spring_todo.enums.Prioridade;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import com.matheusbiesek.todolist.spring_todo.repository.TarefaRepository;
+import com.matheusbiesek.todolist.spring_todo.repository.TarefaRepository.ContagemTarefas;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contagens por status, por prioridade e de vencidas para o painel, calculadas com um único
+ * GROUP BY e guardadas no cache {@link CacheConfig#ESTATISTICAS_TAREFAS}.
+ *
+ * <p>A chave do cache inclui uma versão por usuário: escritas em tarefas chamam
+ * {@link #invalidar(UUID)}, que troca a versão depois do commit, e a entrada antiga deixa de ser
+ * lida (sai por TTL ou tamanho). Trocar só depois do commit evita que uma leitura concorrente
+ * guarde, já com a versão nova, contagens anteriores à escrita. As versões vêm de uma sequência
+ * única, então uma versão descartada do mapa nunca volta a coincidir com uma entrada antiga.
+ * Como o cache é local, outras instâncias enxergam a escrita no máximo após o TTL.
+ */
+@Service
+public class EstatisticasTarefaService {
+
+    private final TarefaRepository tarefaRepository;
+    private final Cache estatisticas;
+    private final ConcurrentMap<UUID, Long> versoes;
+    private final AtomicLong sequencia = new AtomicLong();
+
+    public EstatisticasTarefaService(TarefaRepository tarefaRepository,
+                                     CacheManager cacheManager,
+                                     @Value("${app.cache.estatisticas-tarefas.tamanho-maximo:10000}") long tamanhoMaximo) {
+        this.tarefaRepository = tarefaRepository;
+        this.estatisticas = cacheManager.getCache(CacheConfig.ESTATISTICAS_TAREFAS);
+        this.versoes = Caffeine.newBuilder().maximumSize(tamanhoMaximo).<UUID, Long>build().asMap();
+    }
+
+    public TarefaEstatisticasResponse calcular(UUID usuarioId) {
+        try {
+            LocalDate hoje = LocalDate.now();
+            long versao = versoes.computeIfAbsent(usuarioId, id -> sequencia.incrementAndGet());
+            return estatisticas.get(new Chave(usuarioId, versao, hoje), () -> agregar(usuarioId, hoje));
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao calcular estatísticas das tarefas: " + e.getMessage(), e);
+        }
+    }
+
+    public void invalidar(UUID usuarioId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            novaVersao(usuarioId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                novaVersao(usuarioId);
+            }
+        });
+    }
+
+    private void novaVersao(UUID usuarioId) {
+        versoes.put(usuarioId, sequencia.incrementAndGet());
+    }
+
+    private TarefaEstatisticasResponse agregar(UUID usuarioId, LocalDate hoje) {
+        Map<StatusTarefa, Long> porStatus = zerado(StatusTarefa.class);
+        Map<Prioridade, Long> porPrioridade = zerado(Prioridade.class);
+        long total = 0;
+        long vencidas = 0;
+        for (ContagemTarefas grupo : tarefaRepository.contarPorStatusEPrioridade(usuarioId, hoje)) {
+            porStatus.merge(grupo.getStatus(), grupo.getTotal(), Long::sum);
+            porPrioridade.merge(grupo.getPrioridade(), grupo.getTotal(), Long::sum);
+            total += grupo.getTotal();
+            vencidas += grupo.getVencidas();
+        }
+        return new TarefaEstatisticasResponse(total, Collections.unmodifiableMap(porStatus),
+                Collections.unmodifiableMap(porPrioridade), vencidas);
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> zerado(Class<E> tipo) {
+        Map<E, Long> contagens = new EnumMap<>(tipo);
+        for (E valor : tipo.getEnumConstants()) {
+            contagens.put(valor, 0L);
+        }
+        return contagens;
+    }
+
+    private record Chave(UUID usuarioId, long versao, LocalDate hoje) {
+    }
+}
@@ -1,14 +1,27 @@
 package com.matheusbiesek.todolist.spring_todo.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -19,8 +32,24 @@ public class JwtService {
     private final String audience = "spring-todo";
     private final long accessTokenValidityInMinutes = 15;
 
-    public JwtService(@Value("${app.jwt.secret}") String secret) {
+    private final JwtParser jwtParser;
+    private final Cache<String, TokenVerificado> tokensVerificados;
+
+    public JwtService(@Value("${app.jwt.secret}") String secret,
+                      @Value("${app.jwt.cache.tamanho-maximo:50000}") long tamanhoMaximoCache,
+                      MeterRegistry meterRegistry) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .requireIssuer(issuer)
+                .requireAudience(audience)
+                .build();
+        this.tokensVerificados = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximoCache)
+                .expireAfter(Expiry.creating((String digest, TokenVerificado token) -> tempoRestante(token)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokensVerificados, "jwt.tokens-verificados");
     }
 
     public String generateAccessToken(UUID usuarioId) {
@@ -28,6 +57,7 @@ public class JwtService {
         Instant expiration = now.plusSeconds(accessTokenValidityInMinutes * 60);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(usuarioId.toString())
                 .issuer(issuer)
                 .audience().add(audience).and()
@@ -37,29 +67,46 @@ public class JwtService {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Verifica assinatura, issuer, audience e expiração do token e extrai o usuário em uma
+     * única passada. Tokens já verificados ficam em cache (pelo digest SHA-256) até o seu
+     * {@code exp}, então requisições repetidas com o mesmo cookie não refazem HMAC nem parse.
+     */
+    public Optional<TokenVerificado> verifyToken(String token) {
+        String digest = digest(token);
+        TokenVerificado emCache = tokensVerificados.getIfPresent(digest);
+        if (emCache != null) {
+            return emCache.expiraEm().isAfter(Instant.now()) ? Optional.of(emCache) : Optional.empty();
+        }
+
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .requireIssuer(issuer)
-                    .requireAudience(audience)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            TokenVerificado verificado = new TokenVerificado(
+                    UUID.fromString(claims.getSubject()),
+                    claims.getId() == null ? null : UUID.fromString(claims.getId()),
+                    claims.getExpiration().toInstant());
+            tokensVerificados.put(digest, verificado);
+            return Optional.of(verificado);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 
-    public UUID getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .requireIssuer(issuer)
-                .requireAudience(audience)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        
-        return UUID.fromString(claims.getSubject());
+    private static Duration tempoRestante(TokenVerificado token) {
+        Duration restante = Duration.between(Instant.now(), token.expiraEm());
+        return restante.isNegative() ? Duration.ZERO : restante;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível", e);
+        }
+    }
+
+    /** {@code jti} é nulo apenas para tokens emitidos antes da introdução do claim. */
+    public record TokenVerificado(UUID usuarioId, UUID jti, Instant expiraEm) {
     }
-}
\ No newline at end of file
+}
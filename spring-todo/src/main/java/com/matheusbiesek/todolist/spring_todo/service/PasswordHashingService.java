@@ -0,0 +1,54 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.exception.auth.AutenticacaoSobrecarregadaException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Executa operações de BCrypt (login e registro) no pool dedicado {@code passwordHashingExecutor},
+ * isolando as threads do Tomcat. Com o pool e a fila cheios a requisição é rejeitada imediatamente.
+ * O que vem depois do hash roda no {@code autenticacaoExecutor}, não no pool de BCrypt.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final TaskExecutor passwordHashingExecutor;
+    private final TaskExecutor autenticacaoExecutor;
+    private final Counter rejeitadas;
+
+    public PasswordHashingService(@Qualifier("passwordHashingExecutor") TaskExecutor passwordHashingExecutor,
+                                  @Qualifier("autenticacaoExecutor") TaskExecutor autenticacaoExecutor,
+                                  MeterRegistry meterRegistry) {
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.autenticacaoExecutor = autenticacaoExecutor;
+        this.rejeitadas = Counter.builder("senha.hashing.rejeitadas")
+                .description("Operações de hash de senha rejeitadas por saturação do pool")
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> executar(Supplier<T> operacao) {
+        try {
+            return CompletableFuture.supplyAsync(operacao, passwordHashingExecutor);
+        } catch (RejectedExecutionException e) {
+            rejeitadas.increment();
+            throw new AutenticacaoSobrecarregadaException(
+                    "Muitas requisições de autenticação simultâneas, tente novamente em instantes", e);
+        }
+    }
+
+    /**
+     * Hash no pool de BCrypt e continuação no {@code autenticacaoExecutor}: a vaga do BCrypt é
+     * liberada assim que o hash termina, sem esperar pelo banco.
+     */
+    public <T, R> CompletableFuture<R> executar(Supplier<T> operacao, Function<? super T, ? extends R> continuacao) {
+        return executar(operacao).thenApplyAsync(continuacao, autenticacaoExecutor);
+    }
+}
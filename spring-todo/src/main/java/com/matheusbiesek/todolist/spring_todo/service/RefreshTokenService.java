@@ -0,0 +1,101 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.entity.RefreshToken;
+import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
+import com.matheusbiesek.todolist.spring_todo.exception.auth.RefreshTokenInvalidoException;
+import com.matheusbiesek.todolist.spring_todo.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Refresh tokens opacos e rotativos. Apenas o hash SHA-256 é persistido; cada renovação
+ * revoga o token usado e emite um novo. A reutilização de um token já rotacionado
+ * revoga todos os refresh tokens do usuário.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final int TAMANHO_TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UsuarioService usuarioService;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${app.jwt.refresh-token.validade-dias:7}")
+    private long validadeEmDias;
+
+    public long getValidadeEmSegundos() {
+        return validadeEmDias * 24 * 60 * 60;
+    }
+
+    @Transactional
+    public String emitir(UUID usuarioId) {
+        return criar(usuarioService.getReference(usuarioId));
+    }
+
+    @Transactional(noRollbackFor = RefreshTokenInvalidoException.class)
+    public RefreshTokenRotacionado rotacionar(String token) {
+        String tokenHash = hash(token);
+        RefreshToken atual = refreshTokenRepository.findByTokenHashWithUsuario(tokenHash)
+                .orElseThrow(RefreshTokenInvalidoException::new);
+        Usuario usuario = atual.getUsuario();
+        LocalDateTime agora = LocalDateTime.now();
+
+        if (atual.getRevogadoEm() == null && !atual.getExpiraEm().isAfter(agora)) {
+            throw new RefreshTokenInvalidoException();
+        }
+        // A revogação condicional decide quem rotaciona: quem perde (token já revogado, inclusive
+        // por uma rotação concorrente) segue o caminho de reutilização.
+        if (refreshTokenRepository.revogarSeAtivo(tokenHash, agora) == 0) {
+            refreshTokenRepository.revogarTodosDoUsuario(usuario.getUsuarioId(), agora);
+            throw new RefreshTokenInvalidoException("Refresh token já utilizado");
+        }
+
+        String novoToken = criar(usuario);
+        return new RefreshTokenRotacionado(usuario.getUsuarioId(), usuario.getNomeUsuario(), novoToken);
+    }
+
+    @Transactional
+    public void revogar(String token) {
+        refreshTokenRepository.findByTokenHash(hash(token))
+                .filter(refreshToken -> refreshToken.getRevogadoEm() == null)
+                .ifPresent(refreshToken -> refreshToken.setRevogadoEm(LocalDateTime.now()));
+    }
+
+    private String criar(Usuario usuario) {
+        byte[] bytes = new byte[TAMANHO_TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUsuario(usuario);
+        refreshToken.setTokenHash(hash(token));
+        refreshToken.setExpiraEm(LocalDateTime.now().plusDays(validadeEmDias));
+        refreshTokenRepository.save(refreshToken);
+        return token;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 não disponível", e);
+        }
+    }
+
+    public record RefreshTokenRotacionado(UUID usuarioId, String nomeUsuario, String token) {
+    }
+}
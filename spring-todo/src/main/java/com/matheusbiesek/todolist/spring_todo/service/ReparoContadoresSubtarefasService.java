@@ -0,0 +1,53 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.repository.TarefaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Confere periodicamente os contadores subtarefas_total/subtarefas_pendentes de app.tarefas
+ * contra as subtarefas gravadas. Os contadores são mantidos pelo SubtarefaService; divergências
+ * só aparecem com escritas feitas por fora da aplicação (SQL manual, restauração parcial). A
+ * varredura é feita em faixas de tarefa_id, cada uma em sua própria transação, para não travar
+ * a tabela inteira.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReparoContadoresSubtarefasService {
+
+    static final long TAMANHO_LOTE = 1000;
+
+    private final TarefaRepository tarefaRepository;
+
+    @Scheduled(fixedDelayString = "${app.tarefas.contadores.reparo-ms:86400000}",
+            initialDelayString = "${app.tarefas.contadores.reparo-ms:86400000}")
+    public void repararAgendado() {
+        try {
+            int corrigidas = reparar();
+            if (corrigidas > 0) {
+                log.warn("Contadores de subtarefas corrigidos em {} tarefas", corrigidas);
+            } else {
+                log.debug("Contadores de subtarefas conferidos, nenhuma divergência");
+            }
+        } catch (Exception e) {
+            log.error("Erro ao reparar contadores de subtarefas: {}", e.getMessage(), e);
+        }
+    }
+
+    /** Devolve o número de tarefas cujos contadores foram corrigidos. */
+    public int reparar() {
+        Long menor = tarefaRepository.findMenorTarefaId();
+        Long maior = tarefaRepository.findMaiorTarefaId();
+        if (menor == null) {
+            return 0;
+        }
+        int corrigidas = 0;
+        for (long inicio = menor; inicio <= maior; inicio += TAMANHO_LOTE) {
+            corrigidas += tarefaRepository.repararContadoresSubtarefas(inicio, inicio + TAMANHO_LOTE - 1);
+        }
+        return corrigidas;
+    }
+}
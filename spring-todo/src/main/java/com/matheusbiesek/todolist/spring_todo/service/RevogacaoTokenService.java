@@ -0,0 +1,141 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.entity.TokenRevogado;
+import com.matheusbiesek.todolist.spring_todo.repository.RefreshTokenRepository;
+import com.matheusbiesek.todolist.spring_todo.repository.TokenRevogadoRepository;
+import com.matheusbiesek.todolist.spring_todo.service.JwtService.TokenVerificado;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Lista de access tokens revogados (pelo claim jti). O Postgres é a fonte da verdade; em
+ * memória cada jti fica em um bucket pelo minuto de expiração do token, e buckets cujo minuto
+ * já passou são descartados inteiros. A consulta feita a cada requisição é um get em um
+ * ConcurrentHashMap e um contains no conjunto do bucket, sem acesso ao banco.
+ *
+ * <p>Revogações feitas por outras instâncias chegam pela sincronização periódica.
+ */
+@Service
+@Slf4j
+public class RevogacaoTokenService {
+
+    private static final Duration MARGEM_SINCRONIZACAO = Duration.ofSeconds(5);
+
+    private final TokenRevogadoRepository tokenRevogadoRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final ConcurrentMap<Long, Set<UUID>> revogadosPorMinuto = new ConcurrentHashMap<>();
+    private volatile Instant ultimaSincronizacao;
+
+    public RevogacaoTokenService(TokenRevogadoRepository tokenRevogadoRepository,
+                                 RefreshTokenRepository refreshTokenRepository,
+                                 MeterRegistry meterRegistry) {
+        this.tokenRevogadoRepository = tokenRevogadoRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        Gauge.builder("jwt.tokens-revogados", this, RevogacaoTokenService::totalEmMemoria)
+                .description("Access tokens revogados e ainda não expirados mantidos em memória")
+                .register(meterRegistry);
+    }
+
+    public boolean isRevogado(TokenVerificado token) {
+        if (token.jti() == null || revogadosPorMinuto.isEmpty()) {
+            return false;
+        }
+        Set<UUID> bucket = revogadosPorMinuto.get(bucket(token.expiraEm()));
+        return bucket != null && bucket.contains(token.jti());
+    }
+
+    public void revogar(TokenVerificado token) {
+        if (token.jti() == null) {
+            return;
+        }
+        try {
+            TokenRevogado tokenRevogado = new TokenRevogado();
+            tokenRevogado.setJti(token.jti());
+            tokenRevogado.setExpiraEm(token.expiraEm());
+            tokenRevogado.setRevogadoEm(Instant.now());
+            tokenRevogadoRepository.save(tokenRevogado);
+            adicionar(token.jti(), token.expiraEm());
+        } catch (DataIntegrityViolationException e) {
+            // jti já revogado (logout repetido): só garante a entrada em memória
+            adicionar(token.jti(), token.expiraEm());
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao revogar token: " + e.getMessage(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        try {
+            Instant agora = Instant.now();
+            tokenRevogadoRepository.findByExpiraEmAfter(agora)
+                    .forEach(token -> adicionar(token.getJti(), token.getExpiraEm()));
+            ultimaSincronizacao = agora;
+            log.info("{} tokens revogados carregados", totalEmMemoria());
+        } catch (Exception e) {
+            log.error("Erro ao carregar tokens revogados: {}", e.getMessage(), e);
+        }
+    }
+
+    /** Descarta buckets expirados e busca revogações feitas por outras instâncias. */
+    @Scheduled(fixedDelayString = "${app.jwt.revogacao.sincronizacao-ms:30000}")
+    public void sincronizar() {
+        Instant agora = Instant.now();
+        descartarExpirados(agora);
+
+        if (ultimaSincronizacao == null) {
+            carregar();
+            return;
+        }
+        try {
+            tokenRevogadoRepository
+                    .findByRevogadoEmGreaterThanEqualAndExpiraEmAfter(ultimaSincronizacao.minus(MARGEM_SINCRONIZACAO), agora)
+                    .forEach(token -> adicionar(token.getJti(), token.getExpiraEm()));
+            ultimaSincronizacao = agora;
+        } catch (Exception e) {
+            log.error("Erro ao sincronizar tokens revogados: {}", e.getMessage(), e);
+        }
+    }
+
+    /** Remove do banco tokens revogados e refresh tokens que já expiraram. */
+    @Scheduled(fixedDelayString = "${app.jwt.revogacao.limpeza-ms:3600000}")
+    public void limparExpirados() {
+        try {
+            int tokens = tokenRevogadoRepository.deleteExpirados(Instant.now());
+            int refreshTokens = refreshTokenRepository.deleteExpirados(LocalDateTime.now());
+            log.debug("Limpeza: {} tokens revogados e {} refresh tokens expirados removidos", tokens, refreshTokens);
+        } catch (Exception e) {
+            log.error("Erro ao limpar tokens expirados: {}", e.getMessage(), e);
+        }
+    }
+
+    void descartarExpirados(Instant agora) {
+        long minutoAtual = bucket(agora);
+        revogadosPorMinuto.keySet().removeIf(minuto -> minuto < minutoAtual);
+    }
+
+    int totalEmMemoria() {
+        return revogadosPorMinuto.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void adicionar(UUID jti, Instant expiraEm) {
+        revogadosPorMinuto.computeIfAbsent(bucket(expiraEm), minuto -> ConcurrentHashMap.newKeySet()).add(jti);
+    }
+
+    private static long bucket(Instant instante) {
+        return Math.floorDiv(instante.getEpochSecond(), 60);
+    }
+}
@@ -3,21 +3,29 @@ package com.matheusbiesek.todolist.spring_todo.service;
 import com.matheusbiesek.todolist.spring_todo.entity.Subtarefa;
 import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
 import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import com.matheusbiesek.todolist.spring_todo.exception.PatchInvalidoException;
 import com.matheusbiesek.todolist.spring_todo.repository.SubtarefaRepository;
+import com.matheusbiesek.todolist.spring_todo.repository.TarefaRepository;
+import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class SubtarefaService {
 
     private final SubtarefaRepository subtarefaRepository;
+    private final TarefaRepository tarefaRepository;
 
     @Transactional(readOnly = true)
     public List<Subtarefa> findAll() {
@@ -79,18 +87,37 @@ public class SubtarefaService {
     }
 
     @Transactional(readOnly = true)
-    public long countSubtarefasPendentes(Tarefa tarefa) {
+    public Slice<Subtarefa> findSliceByTarefa(Tarefa tarefa, Pageable pageable) {
+        try {
+            return subtarefaRepository.findSliceByTarefa(tarefa, pageable);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao buscar subtarefas da tarefa sem total: " + e.getMessage(), e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<Subtarefa> findSliceByTarefaAndStatus(Tarefa tarefa, StatusTarefa status, Pageable pageable) {
         try {
-            return subtarefaRepository.countByTarefaAndStatusNot(tarefa, StatusTarefa.CONCLUIDA);
+            return subtarefaRepository.findSliceByTarefaAndStatus(tarefa, status, pageable);
         } catch (Exception e) {
-            throw new RuntimeException("Erro ao contar subtarefas pendentes: " + e.getMessage(), e);
+            throw new RuntimeException("Erro ao buscar subtarefas por status sem total: " + e.getMessage(), e);
         }
     }
 
+    /** Leitura do contador mantido em app.tarefas, sem consultar as subtarefas. */
+    public long countSubtarefasPendentes(Tarefa tarefa) {
+        return tarefa.getSubtarefasPendentes();
+    }
+
     @Transactional
     public Subtarefa save(Subtarefa subtarefa) {
+        if (subtarefa.getSubtarefaId() != null) {
+            return update(subtarefa);
+        }
         try {
-            return subtarefaRepository.save(subtarefa);
+            Subtarefa salva = subtarefaRepository.save(subtarefa);
+            ajustarContadores(salva.getTarefa(), 1, pendente(salva.getStatus()));
+            return salva;
         } catch (Exception e) {
             throw new RuntimeException("Erro ao salvar subtarefa: " + e.getMessage(), e);
         }
@@ -99,10 +126,41 @@ public class SubtarefaService {
     @Transactional
     public Subtarefa update(Subtarefa subtarefa) {
         try {
-            if (!subtarefaRepository.existsById(subtarefa.getSubtarefaId())) {
-                throw new RuntimeException("Subtarefa não encontrada para atualização");
+            Subtarefa atual = subtarefaRepository.findByIdParaAtualizacao(subtarefa.getSubtarefaId())
+                    .orElseThrow(() -> new RuntimeException("Subtarefa não encontrada para atualização"));
+            Tarefa tarefaAnterior = atual.getTarefa();
+            int pendenteAnterior = pendente(atual.getStatus());
+            Subtarefa salva = subtarefaRepository.save(subtarefa);
+            if (tarefaAnterior.getTarefaId().equals(salva.getTarefa().getTarefaId())) {
+                ajustarContadores(salva.getTarefa(), 0, pendente(salva.getStatus()) - pendenteAnterior);
+            } else {
+                ajustarContadores(tarefaAnterior, -1, -pendenteAnterior);
+                ajustarContadores(salva.getTarefa(), 1, pendente(salva.getStatus()));
             }
-            return subtarefaRepository.save(subtarefa);
+            return salva;
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao atualizar subtarefa: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Aplica as alterações à subtarefa gerenciada e deixa o dirty checking gerar o UPDATE só com as
+     * colunas alteradas, sem reler nem fazer merge; a mudança de pendência vai para os contadores da
+     * tarefa. Vazio se a subtarefa não existe ou a tarefa não é do usuário.
+     */
+    @Transactional
+    public Optional<Subtarefa> update(Long subtarefaId, UUID usuarioId, Consumer<Subtarefa> alteracoes) {
+        try {
+            Optional<Subtarefa> subtarefaOpt = subtarefaRepository.findByIdParaAtualizacao(subtarefaId)
+                    .filter(subtarefa -> subtarefa.getTarefa().getUsuario().getUsuarioId().equals(usuarioId));
+            subtarefaOpt.ifPresent(subtarefa -> {
+                int pendenteAnterior = pendente(subtarefa.getStatus());
+                alteracoes.accept(subtarefa);
+                ajustarContadores(subtarefa.getTarefa(), 0, pendente(subtarefa.getStatus()) - pendenteAnterior);
+            });
+            return subtarefaOpt;
+        } catch (ConstraintViolationException | PatchInvalidoException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Erro ao atualizar subtarefa: " + e.getMessage(), e);
         }
@@ -111,28 +169,60 @@ public class SubtarefaService {
     @Transactional
     public Subtarefa updateStatus(Long subtarefaId, StatusTarefa novoStatus) {
         try {
-            Optional<Subtarefa> subtarefaOpt = subtarefaRepository.findById(subtarefaId);
+            Optional<Subtarefa> subtarefaOpt = subtarefaRepository.findByIdParaAtualizacao(subtarefaId);
             if (subtarefaOpt.isEmpty()) {
                 throw new RuntimeException("Subtarefa não encontrada");
             }
 
             Subtarefa subtarefa = subtarefaOpt.get();
+            int pendenteAnterior = pendente(subtarefa.getStatus());
             subtarefa.setStatus(novoStatus);
-            return subtarefaRepository.save(subtarefa);
+            Subtarefa salva = subtarefaRepository.save(subtarefa);
+            ajustarContadores(salva.getTarefa(), 0, pendente(novoStatus) - pendenteAnterior);
+            return salva;
         } catch (Exception e) {
             throw new RuntimeException("Erro ao atualizar status da subtarefa: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Conclui todas as subtarefas ainda abertas da tarefa com um único UPDATE e zera as
+     * pendentes no contador da tarefa. Devolve quantas subtarefas foram concluídas.
+     */
+    @Transactional
+    public int concluirTodas(Long tarefaId) {
+        try {
+            int concluidas = subtarefaRepository.concluirTodasDaTarefa(tarefaId, LocalDateTime.now());
+            ajustarContadores(tarefaId, 0, -concluidas);
+            return concluidas;
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao concluir subtarefas da tarefa: " + e.getMessage(), e);
+        }
+    }
+
     @Transactional
     public void deleteById(Long id) {
         try {
-            if (!subtarefaRepository.existsById(id)) {
-                throw new RuntimeException("Subtarefa não encontrada para exclusão");
-            }
-            subtarefaRepository.deleteById(id);
+            Subtarefa subtarefa = subtarefaRepository.findByIdParaAtualizacao(id)
+                    .orElseThrow(() -> new RuntimeException("Subtarefa não encontrada para exclusão"));
+            subtarefaRepository.delete(subtarefa);
+            ajustarContadores(subtarefa.getTarefa(), -1, -pendente(subtarefa.getStatus()));
         } catch (Exception e) {
             throw new RuntimeException("Erro ao deletar subtarefa: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    private void ajustarContadores(Tarefa tarefa, int total, int pendentes) {
+        ajustarContadores(tarefa.getTarefaId(), total, pendentes);
+    }
+
+    private void ajustarContadores(Long tarefaId, int total, int pendentes) {
+        if (total != 0 || pendentes != 0) {
+            tarefaRepository.ajustarContadoresSubtarefas(tarefaId, total, pendentes);
+        }
+    }
+
+    private static int pendente(StatusTarefa status) {
+        return status == StatusTarefa.CONCLUIDA ? 0 : 1;
+    }
+}
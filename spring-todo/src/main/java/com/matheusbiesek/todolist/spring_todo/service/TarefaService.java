@@ -1,26 +1,53 @@
 package com.matheusbiesek.todolist.spring_todo.service;
 
+import com.matheusbiesek.todolist.spring_todo.dto.subtarefa.SubtarefaResponse;
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaFiltro;
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaResponse;
 import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
 import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
 import com.matheusbiesek.todolist.spring_todo.enums.Prioridade;
 import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import com.matheusbiesek.todolist.spring_todo.exception.PatchInvalidoException;
 import com.matheusbiesek.todolist.spring_todo.exception.tarefa.TarefaComSubtarefasPendentesException;
+import com.matheusbiesek.todolist.spring_todo.util.CamposTarefa;
+import com.matheusbiesek.todolist.spring_todo.util.CursorTarefa;
+import com.matheusbiesek.todolist.spring_todo.repository.SubtarefaRepository;
 import com.matheusbiesek.todolist.spring_todo.repository.TarefaRepository;
+import com.matheusbiesek.todolist.spring_todo.repository.TarefaSpecifications;
+import jakarta.validation.ConstraintViolationException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 @Service
 @RequiredArgsConstructor
 public class TarefaService {
 
+    public static final int MAXIMO_TAREFAS_LOTE = 500;
+
+    private static final Sort ORDEM_CURSOR = Sort.by(Sort.Direction.DESC, "criadoEm", "tarefaId");
+
     private final TarefaRepository tarefaRepository;
+    private final SubtarefaRepository subtarefaRepository;
+    private final EstatisticasTarefaService estatisticasTarefaService;
 
     @Transactional(readOnly = true)
     public List<Tarefa> findAll() {
@@ -49,7 +76,8 @@ public class TarefaService {
     public List<Tarefa> findByUsuarioWithFilters(Usuario usuario, StatusTarefa status, 
                                                  Prioridade prioridade, LocalDate dataVencimento) {
         try {
-            return tarefaRepository.findByUsuarioWithFilters(usuario, status, prioridade, dataVencimento);
+            return tarefaRepository.findAll(TarefaSpecifications.comFiltro(usuario.getUsuarioId(),
+                    TarefaFiltro.de(status, prioridade, dataVencimento)));
         } catch (Exception e) {
             throw new RuntimeException("Erro ao buscar tarefas com filtros: " + e.getMessage(), e);
         }
@@ -59,21 +87,185 @@ public class TarefaService {
     public Page<Tarefa> findByUsuarioWithFilters(Usuario usuario, StatusTarefa status, 
                                                  Prioridade prioridade, LocalDate dataVencimento, Pageable pageable) {
         try {
-            Page<Tarefa> tarefas = tarefaRepository.findByUsuarioWithFilters(usuario, status, prioridade, dataVencimento, pageable);
-            tarefas.getContent().forEach(tarefa -> tarefa.getSubtarefas().size());
+            Page<Tarefa> tarefas = tarefaRepository.findAll(TarefaSpecifications.comFiltro(usuario.getUsuarioId(),
+                    TarefaFiltro.de(status, prioridade, dataVencimento)), pageable);
+            tarefas.getContent().forEach(tarefa -> Hibernate.initialize(tarefa.getSubtarefas()));
             return tarefas;
         } catch (Exception e) {
             throw new RuntimeException("Erro ao buscar tarefas com filtros paginadas: " + e.getMessage(), e);
         }
     }
 
+    @Transactional(readOnly = true)
+    public Page<TarefaResponse> findByUsuarioIdWithFilters(UUID usuarioId, TarefaFiltro filtro, Pageable pageable) {
+        try {
+            return comSubtarefas(tarefaRepository.findResponses(
+                    TarefaSpecifications.comFiltro(usuarioId, filtro), pageable));
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao buscar tarefas com filtros paginadas: " + e.getMessage(), e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<TarefaResponse> findSliceByUsuarioIdWithFilters(UUID usuarioId, TarefaFiltro filtro,
+                                                                 Pageable pageable) {
+        try {
+            return comSubtarefas(tarefaRepository.findSliceResponses(
+                    TarefaSpecifications.comFiltro(usuarioId, filtro), pageable));
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao buscar tarefas com filtros sem total: " + e.getMessage(), e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<TarefaResponse> findSliceTarefasVencidasByUsuarioId(UUID usuarioId, Pageable pageable) {
+        try {
+            return comSubtarefas(tarefaRepository.findSliceResponses(vencidas(usuarioId), pageable));
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao buscar tarefas vencidas sem total: " + e.getMessage(), e);
+        }
+    }
+
+    /** Listagem com apenas os {@code campos} pedidos (ver {@link CamposTarefa}). */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findCamposByUsuarioIdWithFilters(UUID usuarioId, TarefaFiltro filtro,
+                                                                      Set<String> campos, Pageable pageable) {
+        try {
+            return comSubtarefas(tarefaRepository.findCampos(
+                    TarefaSpecifications.comFiltro(usuarioId, filtro), campos, pageable), campos);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao buscar campos das tarefas com filtros: " + e.getMessage(), e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> findSliceCamposByUsuarioIdWithFilters(UUID usuarioId, TarefaFiltro filtro,
+                                                                           Set<String> campos, Pageable pageable) {
+        try {
+            return comSubtarefas(tarefaRepository.findSliceCampos(
+                    TarefaSpecifications.comFiltro(usuarioId, filtro), campos, pageable), campos);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao buscar campos das tarefas com filtros sem total: " + e.getMessage(), e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findCamposTarefasVencidasByUsuarioId(UUID usuarioId, Set<String> campos,
+                                                                         Pageable pageable) {
+        try {
+            return comSubtarefas(tarefaRepository.findCampos(vencidas(usuarioId), campos, pageable), campos);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao buscar campos das tarefas vencidas: " + e.getMessage(), e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<Map<String, Object>> findSliceCamposTarefasVencidasByUsuarioId(UUID usuarioId, Set<String> campos,
+                                                                               Pageable pageable) {
+        try {
+            return comSubtarefas(tarefaRepository.findSliceCampos(vencidas(usuarioId), campos, pageable), campos);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao buscar campos das tarefas vencidas sem total: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Página por cursor: busca uma linha além do tamanho pedido só para saber se há próxima
+     * página, sem OFFSET nem COUNT. Com {@code cursor} nulo retorna a primeira página.
+     */
+    @Transactional(readOnly = true)
+    public Slice<TarefaResponse> findByUsuarioIdWithFiltersAposCursor(UUID usuarioId, TarefaFiltro filtro,
+                                                                      CursorTarefa cursor, int tamanho) {
+        try {
+            return buscarAposCursor(TarefaSpecifications.comFiltro(usuarioId, filtro), cursor, tamanho);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao buscar tarefas por cursor: " + e.getMessage(), e);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<TarefaResponse> findTarefasVencidasByUsuarioIdAposCursor(UUID usuarioId, CursorTarefa cursor,
+                                                                          int tamanho) {
+        try {
+            return buscarAposCursor(vencidas(usuarioId), cursor, tamanho);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao buscar tarefas vencidas por cursor: " + e.getMessage(), e);
+        }
+    }
+
+    private Slice<TarefaResponse> buscarAposCursor(Specification<Tarefa> spec, CursorTarefa cursor, int tamanho) {
+        Specification<Tarefa> pagina = cursor != null ? spec.and(TarefaSpecifications.aposCursor(cursor)) : spec;
+        List<TarefaResponse> tarefas = tarefaRepository.findResponses(pagina, ORDEM_CURSOR, tamanho + 1);
+        boolean temProxima = tarefas.size() > tamanho;
+        List<TarefaResponse> conteudo = temProxima ? tarefas.subList(0, tamanho) : tarefas;
+        return comSubtarefas(new SliceImpl<>(conteudo, Pageable.ofSize(tamanho), temProxima));
+    }
+
+    /** Preenche as subtarefas de toda a página com uma única consulta projetada. */
+    private <S extends Slice<TarefaResponse>> S comSubtarefas(S pagina) {
+        if (pagina.hasContent()) {
+            Map<Long, List<SubtarefaResponse>> porTarefa = subtarefasPorTarefa(
+                    pagina.getContent().stream().map(TarefaResponse::getTarefaId).toList());
+            pagina.forEach(tarefa ->
+                    tarefa.setSubtarefas(porTarefa.getOrDefault(tarefa.getTarefaId(), Collections.emptyList())));
+        }
+        return pagina;
+    }
+
+    /** Idem para listagens com campos escolhidos; sem {@code subtarefas} pedidas, não consulta nada. */
+    private <S extends Slice<Map<String, Object>>> S comSubtarefas(S pagina, Set<String> campos) {
+        if (pagina.hasContent() && campos.contains(CamposTarefa.SUBTAREFAS)) {
+            Map<Long, List<SubtarefaResponse>> porTarefa = subtarefasPorTarefa(pagina.getContent().stream()
+                    .map(tarefa -> (Long) tarefa.get(CamposTarefa.TAREFA_ID))
+                    .toList());
+            pagina.forEach(tarefa -> tarefa.put(CamposTarefa.SUBTAREFAS,
+                    porTarefa.getOrDefault((Long) tarefa.get(CamposTarefa.TAREFA_ID), Collections.emptyList())));
+        }
+        return pagina;
+    }
+
+    private Map<Long, List<SubtarefaResponse>> subtarefasPorTarefa(List<Long> tarefaIds) {
+        return subtarefaRepository.findResponsesByTarefaIds(tarefaIds).stream()
+                .collect(Collectors.groupingBy(SubtarefaResponse::getTarefaId));
+    }
+
+    private Specification<Tarefa> vencidas(UUID usuarioId) {
+        return TarefaSpecifications.doUsuario(usuarioId).and(TarefaSpecifications.venceAntesDe(LocalDate.now()));
+    }
+
+    /**
+     * Busca por chave primária (atendida pelo cache de segundo nível quando a tarefa está em
+     * memória) e confere o dono pelo ID da associação, que não inicializa o proxy de Usuario.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Tarefa> findByIdAndUsuarioId(Long id, UUID usuarioId) {
+        try {
+            Optional<Tarefa> tarefaOpt = tarefaRepository.findById(id)
+                    .filter(tarefa -> tarefa.getUsuario().getUsuarioId().equals(usuarioId));
+            tarefaOpt.ifPresent(tarefa -> Hibernate.initialize(tarefa.getSubtarefas()));
+            return tarefaOpt;
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao buscar tarefa por ID e usuário: " + e.getMessage(), e);
+        }
+    }
+
+    /** Confere o dono sem carregar a tarefa nem suas subtarefas. */
+    @Transactional(readOnly = true)
+    public boolean existsByIdAndUsuarioId(Long id, UUID usuarioId) {
+        try {
+            return tarefaRepository.existsByTarefaIdAndUsuarioId(id, usuarioId);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao verificar tarefa do usuário: " + e.getMessage(), e);
+        }
+    }
+
     @Transactional(readOnly = true)
     public Optional<Tarefa> findByIdAndUsuario(Long id, Usuario usuario) {
         try {
             Optional<Tarefa> tarefaOpt = tarefaRepository.findByTarefaIdAndUsuario(id, usuario);
             if (tarefaOpt.isPresent()) {
                 Tarefa tarefa = tarefaOpt.get();
-                tarefa.getSubtarefas().size();
+                Hibernate.initialize(tarefa.getSubtarefas());
             }
             return tarefaOpt;
         } catch (Exception e) {
@@ -103,7 +295,7 @@ public class TarefaService {
     public List<Tarefa> findTarefasVencidas(Usuario usuario) {
         try {
             List<Tarefa> tarefas = tarefaRepository.findByUsuarioAndDataVencimentoBefore(usuario, LocalDate.now());
-            tarefas.forEach(tarefa -> tarefa.getSubtarefas().size());
+            tarefas.forEach(tarefa -> Hibernate.initialize(tarefa.getSubtarefas()));
             return tarefas;
         } catch (Exception e) {
             throw new RuntimeException("Erro ao buscar tarefas vencidas: " + e.getMessage(), e);
@@ -114,51 +306,106 @@ public class TarefaService {
     public Page<Tarefa> findTarefasVencidas(Usuario usuario, Pageable pageable) {
         try {
             Page<Tarefa> tarefas = tarefaRepository.findByUsuarioAndDataVencimentoBefore(usuario, LocalDate.now(), pageable);
-            tarefas.getContent().forEach(tarefa -> tarefa.getSubtarefas().size());
+            tarefas.getContent().forEach(tarefa -> Hibernate.initialize(tarefa.getSubtarefas()));
             return tarefas;
         } catch (Exception e) {
             throw new RuntimeException("Erro ao buscar tarefas vencidas paginadas: " + e.getMessage(), e);
         }
     }
 
+    @Transactional(readOnly = true)
+    public Page<TarefaResponse> findTarefasVencidasByUsuarioId(UUID usuarioId, Pageable pageable) {
+        try {
+            return comSubtarefas(tarefaRepository.findResponses(vencidas(usuarioId), pageable));
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao buscar tarefas vencidas paginadas: " + e.getMessage(), e);
+        }
+    }
+
     @Transactional
     public Tarefa save(Tarefa tarefa) {
         try {
-            return tarefaRepository.save(tarefa);
+            Tarefa salva = tarefaRepository.save(tarefa);
+            estatisticasTarefaService.invalidar(salva.getUsuario().getUsuarioId());
+            return salva;
         } catch (Exception e) {
             throw new RuntimeException("Erro ao salvar tarefa: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Cria as tarefas, com as subtarefas em cascata, em uma única transação. Os ids vêm da
+     * sequência já no persist, então os INSERTs saem em lotes JDBC no flush do commit e a lista
+     * devolvida mantém a ordem recebida.
+     */
     @Transactional
-    public Tarefa update(Tarefa tarefa) {
+    public List<Tarefa> saveAll(List<Tarefa> tarefas) {
         try {
-            if (!tarefaRepository.existsById(tarefa.getTarefaId())) {
-                throw new RuntimeException("Tarefa não encontrada para atualização");
-            }
-            return tarefaRepository.save(tarefa);
+            List<Tarefa> salvas = tarefaRepository.saveAll(tarefas);
+            salvas.stream()
+                    .map(tarefa -> tarefa.getUsuario().getUsuarioId())
+                    .distinct()
+                    .forEach(estatisticasTarefaService::invalidar);
+            return salvas;
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao salvar tarefas em lote: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Aplica as alterações à tarefa gerenciada desta transação (vinda do cache de segundo nível,
+     * quando presente) e deixa o dirty checking gerar o UPDATE no commit, só com as colunas que
+     * mudaram ({@code @DynamicUpdate}); sem existsById nem merge. Vazio se a tarefa não é do usuário.
+     * Uma troca de status não vai pelo dirty checking: passa pelo mesmo UPDATE condicional de
+     * {@link #updateStatus}, e a tarefa não é concluída com subtarefas pendentes.
+     */
+    @Transactional
+    public Optional<Tarefa> update(Long tarefaId, UUID usuarioId, Consumer<Tarefa> alteracoes) {
+        try {
+            Optional<Tarefa> tarefaOpt = tarefaRepository.findById(tarefaId)
+                    .filter(tarefa -> tarefa.getUsuario().getUsuarioId().equals(usuarioId));
+            tarefaOpt.ifPresent(tarefa -> {
+                StatusTarefa statusAtual = tarefa.getStatus();
+                alteracoes.accept(tarefa);
+                StatusTarefa novoStatus = tarefa.getStatus();
+                if (novoStatus != statusAtual) {
+                    tarefa.setStatus(statusAtual);
+                    if (!tarefaRepository.transicionarStatus(tarefa, novoStatus)) {
+                        throw new TarefaComSubtarefasPendentesException("Não é possível concluir tarefa com subtarefas pendentes");
+                    }
+                }
+                Hibernate.initialize(tarefa.getSubtarefas());
+                estatisticasTarefaService.invalidar(usuarioId);
+            });
+            return tarefaOpt;
+        } catch (ConstraintViolationException | PatchInvalidoException | TarefaComSubtarefasPendentesException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Erro ao atualizar tarefa: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Troca o status com um único UPDATE condicional ({@link TarefaRepository#transicionarStatus}):
+     * dono e regra de subtarefas pendentes ficam no WHERE, sem janela entre verificar e gravar.
+     * Só quando nenhuma linha muda é feita uma consulta para distinguir tarefa inexistente (vazio)
+     * de conclusão barrada por subtarefas pendentes.
+     */
     @Transactional
-    public Tarefa updateStatus(Long tarefaId, StatusTarefa novoStatus) {
+    public Optional<Tarefa> updateStatus(Long tarefaId, UUID usuarioId, StatusTarefa novoStatus) {
         try {
-            Optional<Tarefa> tarefaOpt = tarefaRepository.findById(tarefaId);
+            Optional<Tarefa> tarefaOpt = tarefaRepository.transicionarStatus(tarefaId, usuarioId, novoStatus);
             if (tarefaOpt.isEmpty()) {
-                throw new RuntimeException("Tarefa não encontrada");
+                if (novoStatus == StatusTarefa.CONCLUIDA
+                        && tarefaRepository.existsByTarefaIdAndUsuarioId(tarefaId, usuarioId)) {
+                    throw new TarefaComSubtarefasPendentesException("Não é possível concluir tarefa com subtarefas pendentes");
+                }
+                return Optional.empty();
             }
 
-            Tarefa tarefa = tarefaOpt.get();
-            tarefa.getSubtarefas().size();
-
-            if (novoStatus == StatusTarefa.CONCLUIDA && hasSubtarefasPendentes(tarefa)) {
-                throw new TarefaComSubtarefasPendentesException("Não é possível concluir tarefa com subtarefas pendentes");
-            }
-
-            tarefa.setStatus(novoStatus);
-            return tarefaRepository.save(tarefa);
+            Hibernate.initialize(tarefaOpt.get().getSubtarefas());
+            estatisticasTarefaService.invalidar(usuarioId);
+            return tarefaOpt;
         } catch (TarefaComSubtarefasPendentesException e) {
             throw e;
         } catch (Exception e) {
@@ -166,13 +413,41 @@ public class TarefaService {
         }
     }
 
+    /**
+     * Aplica {@code novoStatus} com um único UPDATE às tarefas do usuário que estão em
+     * {@code tarefaIds} (se informados) e atendem ao {@code filtro} (se informado). A regra de
+     * {@link #updateStatus} vira predicado: ao concluir, tarefas com subtarefas pendentes ficam
+     * como estão. Devolve quantas tarefas mudaram de status.
+     */
     @Transactional
-    public void deleteById(Long id) {
+    public int updateStatusEmLote(UUID usuarioId, Collection<Long> tarefaIds, TarefaFiltro filtro,
+                                  StatusTarefa novoStatus) {
         try {
-            if (!tarefaRepository.existsById(id)) {
-                throw new RuntimeException("Tarefa não encontrada para exclusão");
+            Specification<Tarefa> spec = TarefaSpecifications.comFiltro(usuarioId, filtro)
+                    .and(TarefaSpecifications.comStatusDiferenteDe(novoStatus));
+            if (tarefaIds != null && !tarefaIds.isEmpty()) {
+                spec = spec.and(TarefaSpecifications.comIds(tarefaIds));
+            }
+            if (novoStatus == StatusTarefa.CONCLUIDA) {
+                spec = spec.and(TarefaSpecifications.semSubtarefasPendentes());
+            }
+            int atualizadas = tarefaRepository.atualizarStatus(spec, novoStatus);
+            if (atualizadas > 0) {
+                estatisticasTarefaService.invalidar(usuarioId);
             }
-            tarefaRepository.deleteById(id);
+            return atualizadas;
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao atualizar status das tarefas em lote: " + e.getMessage(), e);
+        }
+    }
+
+    @Transactional
+    public void deleteById(Long id) {
+        try {
+            Tarefa tarefa = tarefaRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Tarefa não encontrada para exclusão"));
+            tarefaRepository.delete(tarefa);
+            estatisticasTarefaService.invalidar(tarefa.getUsuario().getUsuarioId());
         } catch (Exception e) {
             throw new RuntimeException("Erro ao deletar tarefa: " + e.getMessage(), e);
         }
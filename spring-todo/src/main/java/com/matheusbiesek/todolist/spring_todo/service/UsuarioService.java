@@ -1,8 +1,12 @@
 package com.matheusbiesek.todolist.spring_todo.service;
 
 import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
+import com.matheusbiesek.todolist.spring_todo.exception.auth.EmailJaEmUsoException;
+import com.matheusbiesek.todolist.spring_todo.exception.auth.NomeUsuarioJaExisteException;
 import com.matheusbiesek.todolist.spring_todo.repository.UsuarioRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +34,14 @@ public class UsuarioService {
         }
     }
 
+    /**
+     * Referência (proxy) ao usuário sem consultar o banco, para associar entidades
+     * ao usuário autenticado cujo ID já foi validado pelo JWT.
+     */
+    public Usuario getReference(UUID id) {
+        return usuarioRepository.getReferenceById(id);
+    }
+
     @Transactional(readOnly = true)
     public Optional<Usuario> findByNomeUsuario(String nomeUsuario) {
         try {
@@ -58,6 +70,20 @@ public class UsuarioService {
         }
     }
 
+    /**
+     * Registro em um único INSERT: a unicidade de nome de usuário e email é garantida pelas
+     * constraints de app.usuarios, sem consultas prévias (que não impedem corridas entre
+     * registros simultâneos). A violação é traduzida pelo nome da constraint.
+     */
+    @Transactional
+    public Usuario registrar(Usuario usuario) {
+        try {
+            return usuarioRepository.saveAndFlush(usuario);
+        } catch (DataIntegrityViolationException e) {
+            throw traduzirViolacaoDeUnicidade(e);
+        }
+    }
+
     @Transactional
     public Usuario update(Usuario usuario) {
         try {
@@ -100,4 +126,19 @@ public class UsuarioService {
             throw new RuntimeException("Email já existe");
         }
     }
-}
\ No newline at end of file
+
+    private RuntimeException traduzirViolacaoDeUnicidade(DataIntegrityViolationException e) {
+        String constraint = e.getCause() instanceof ConstraintViolationException cve && cve.getConstraintName() != null
+                ? cve.getConstraintName()
+                : String.valueOf(e.getMostSpecificCause().getMessage());
+        constraint = constraint.toLowerCase();
+
+        if (constraint.contains(Usuario.UK_NOME_USUARIO) || constraint.contains("nome_usuario")) {
+            return new NomeUsuarioJaExisteException(e);
+        }
+        if (constraint.contains(Usuario.UK_EMAIL) || constraint.contains("email")) {
+            return new EmailJaEmUsoException(e);
+        }
+        return new RuntimeException("Erro ao registrar usuário: " + e.getMostSpecificCause().getMessage(), e);
+    }
+}
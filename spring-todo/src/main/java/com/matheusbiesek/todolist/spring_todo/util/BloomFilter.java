@@ -0,0 +1,96 @@
+package com.matheusbiesek.todolist.spring_todo.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter thread-safe para strings. {@link #mightContain(String)} nunca devolve falso
+ * para um valor inserido; um resultado verdadeiro pode ser falso positivo, com taxa próxima
+ * à configurada enquanto o número de inserções não passar da capacidade esperada.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long numeroDeBits;
+    private final int numeroDeHashes;
+
+    public BloomFilter(long capacidadeEsperada, double taxaFalsoPositivo) {
+        if (capacidadeEsperada <= 0) {
+            throw new IllegalArgumentException("Capacidade esperada deve ser positiva");
+        }
+        if (taxaFalsoPositivo <= 0 || taxaFalsoPositivo >= 1) {
+            throw new IllegalArgumentException("Taxa de falso positivo deve estar entre 0 e 1");
+        }
+        long bitsNecessarios = (long) Math.ceil(-capacidadeEsperada * Math.log(taxaFalsoPositivo) / (Math.log(2) * Math.log(2)));
+        int palavras = Math.toIntExact((Math.max(bitsNecessarios, 64) + 63) / 64);
+        this.bits = new AtomicLongArray(palavras);
+        this.numeroDeBits = palavras * 64L;
+        this.numeroDeHashes = Math.max(1, (int) Math.round((double) numeroDeBits / capacidadeEsperada * Math.log(2)));
+    }
+
+    public void put(String valor) {
+        long hash1 = hash(valor);
+        long hash2 = fmix64(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < numeroDeHashes; i++) {
+            long indice = Math.floorMod(hash1 + i * hash2, numeroDeBits);
+            int palavra = (int) (indice >>> 6);
+            long mascara = 1L << indice;
+            long atual;
+            do {
+                atual = bits.get(palavra);
+            } while ((atual & mascara) == 0 && !bits.compareAndSet(palavra, atual, atual | mascara));
+        }
+    }
+
+    public boolean mightContain(String valor) {
+        long hash1 = hash(valor);
+        long hash2 = fmix64(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < numeroDeHashes; i++) {
+            long indice = Math.floorMod(hash1 + i * hash2, numeroDeBits);
+            if ((bits.get((int) (indice >>> 6)) & (1L << indice)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getNumeroDeBits() {
+        return numeroDeBits;
+    }
+
+    public int getNumeroDeHashes() {
+        return numeroDeHashes;
+    }
+
+    public long getTamanhoEmBytes() {
+        return numeroDeBits / 8;
+    }
+
+    /** Taxa de falso positivo estimada a partir da fração de bits ativos: (ativos / m) ^ k. */
+    public double getTaxaFalsoPositivoEstimada() {
+        long ativos = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            ativos += Long.bitCount(bits.get(i));
+        }
+        return Math.pow((double) ativos / numeroDeBits, numeroDeHashes);
+    }
+
+    // FNV-1a 64 bits seguido do finalizador do MurmurHash3 para espalhar os bits
+    private static long hash(String valor) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : valor.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001B3L;
+        }
+        return fmix64(hash);
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xFF51AFD7ED558CCDL;
+        k ^= k >>> 33;
+        k *= 0xC4CEB93FE1A85EC5L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
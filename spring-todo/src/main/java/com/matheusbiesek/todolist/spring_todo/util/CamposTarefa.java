@@ -0,0 +1,66 @@
+package com.matheusbiesek.todolist.spring_todo.util;
+
+import com.matheusbiesek.todolist.spring_todo.exception.tarefa.CampoInvalidoException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Campos de {@code TarefaResponse} que podem ser pedidos nas listagens com {@code fields}, ou
+ * pela visão {@code summary}. A consulta seleciona só esses campos: colunas omitidas não são
+ * lidas e as subtarefas só são buscadas quando pedidas. O {@code tarefaId} vem sempre.
+ */
+public final class CamposTarefa {
+
+    public static final String TAREFA_ID = "tarefaId";
+    public static final String SUBTAREFAS = "subtarefas";
+    public static final String SUBTAREFAS_PENDENTES = "subtarefasPendentes";
+
+    /** Na ordem em que aparecem na resposta. */
+    public static final List<String> CAMPOS = List.of(TAREFA_ID, "titulo", "descricao", "dataVencimento",
+            "status", "prioridade", "criadoEm", "atualizadoEm", SUBTAREFAS, SUBTAREFAS_PENDENTES);
+
+    public static final Set<String> RESUMO = Set.of(TAREFA_ID, "titulo", "dataVencimento", "status",
+            "prioridade", SUBTAREFAS_PENDENTES);
+
+    private static final List<String> VISOES = List.of("summary", "full");
+
+    private CamposTarefa() {
+    }
+
+    /**
+     * Campos pedidos, na ordem de {@link #CAMPOS}; {@code null} quando a resposta é a completa.
+     * {@code fields} tem precedência sobre {@code view}.
+     */
+    public static Set<String> de(String fields, String view) {
+        if (fields != null && !fields.isBlank()) {
+            List<String> pedidos = Arrays.stream(fields.split(","))
+                    .map(String::trim)
+                    .filter(campo -> !campo.isEmpty())
+                    .toList();
+            List<String> invalidos = pedidos.stream().filter(campo -> !CAMPOS.contains(campo)).toList();
+            if (!invalidos.isEmpty()) {
+                throw new CampoInvalidoException("fields", invalidos, CAMPOS);
+            }
+            return ordenados(pedidos);
+        }
+        if (view == null || view.isBlank() || "full".equalsIgnoreCase(view)) {
+            return null;
+        }
+        if ("summary".equalsIgnoreCase(view)) {
+            return ordenados(RESUMO);
+        }
+        throw new CampoInvalidoException("view", List.of(view), VISOES);
+    }
+
+    private static Set<String> ordenados(Collection<String> pedidos) {
+        Set<String> campos = new LinkedHashSet<>();
+        CAMPOS.stream()
+                .filter(campo -> campo.equals(TAREFA_ID) || pedidos.contains(campo))
+                .forEach(campos::add);
+        return campos;
+    }
+}
@@ -0,0 +1,42 @@
+package com.matheusbiesek.todolist.spring_todo.util;
+
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaResponse;
+import com.matheusbiesek.todolist.spring_todo.exception.tarefa.CursorInvalidoException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posição de uma tarefa na ordenação {@code (criadoEm DESC, tarefaId DESC)} usada pela
+ * paginação por cursor. O cliente recebe o valor codificado em Base64 (URL-safe) e deve
+ * tratá-lo como opaco; o {@code tarefaId} desempata tarefas criadas no mesmo instante.
+ */
+public record CursorTarefa(LocalDateTime criadoEm, Long tarefaId) {
+
+    private static final String SEPARADOR = "|";
+
+    public static CursorTarefa de(TarefaResponse tarefa) {
+        return new CursorTarefa(tarefa.getCriadoEm(), tarefa.getTarefaId());
+    }
+
+    public String codificar() {
+        String valor = criadoEm + SEPARADOR + tarefaId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CursorTarefa decodificar(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(SEPARADOR);
+            if (separador < 0) {
+                throw new CursorInvalidoException(cursor);
+            }
+            return new CursorTarefa(LocalDateTime.parse(valor.substring(0, separador)),
+                    Long.valueOf(valor.substring(separador + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CursorInvalidoException(cursor);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.matheusbiesek.todolist.spring_todo.util;
+
+import com.matheusbiesek.todolist.spring_todo.exception.tarefa.OrdenacaoInvalidaException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+/**
+ * Campos aceitos em {@code sortBy} nas listagens de tarefas. Qualquer outro valor é recusado
+ * antes de chegar à consulta; o {@code tarefaId} entra sempre como desempate para que a
+ * paginação seja estável quando vários registros têm o mesmo valor no campo ordenado.
+ */
+public final class OrdenacaoTarefa {
+
+    public static final Set<String> CAMPOS = Set.of(
+            "criadoEm", "atualizadoEm", "dataVencimento", "titulo", "status", "prioridade");
+
+    private OrdenacaoTarefa() {
+    }
+
+    public static Sort de(String campo, String direcao) {
+        if (!CAMPOS.contains(campo)) {
+            throw new OrdenacaoInvalidaException(campo, CAMPOS);
+        }
+        Sort.Direction sentido = "DESC".equalsIgnoreCase(direcao) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return Sort.by(sentido, campo).and(Sort.by(sentido, "tarefaId"));
+    }
+}
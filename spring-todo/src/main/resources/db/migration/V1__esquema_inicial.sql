@@ -0,0 +1,87 @@
+-- =====================================================
+-- ESQUEMA INICIAL - TO-DO LIST
+-- =====================================================
+-- Tabelas, índices e triggers que antes eram criados pelo data-base/init-db.sql, exatamente
+-- como nele: bancos já existentes são marcados nesta versão pelo baseline do Flyway e não a
+-- executam. Tudo o que veio depois fica nas migrations seguintes.
+
+-- =====================================================
+-- TABELAS PRINCIPAIS
+-- =====================================================
+
+-- Tabela de usuários do sistema
+CREATE TABLE app.usuarios (
+    usuario_id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    nome_usuario VARCHAR(50) UNIQUE NOT NULL,
+    email VARCHAR(100) UNIQUE NOT NULL,
+    senha_hash VARCHAR(255) NOT NULL,
+    criado_em TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Tabela principal de tarefas
+CREATE TABLE app.tarefas (
+    tarefa_id BIGSERIAL PRIMARY KEY,
+    usuario_id UUID NOT NULL REFERENCES app.usuarios(usuario_id) ON DELETE CASCADE,
+    titulo VARCHAR(255) NOT NULL,
+    descricao TEXT,
+    data_vencimento DATE,
+    status VARCHAR(20) NOT NULL,
+    prioridade VARCHAR(10) NOT NULL,
+    criado_em TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    atualizado_em TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Tabela de subtarefas (tarefas filhas)
+CREATE TABLE app.subtarefas (
+    subtarefa_id BIGSERIAL PRIMARY KEY,
+    tarefa_id BIGINT NOT NULL REFERENCES app.tarefas(tarefa_id) ON DELETE CASCADE,
+    titulo VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    criado_em TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    atualizado_em TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Tabela de anexos/arquivos das tarefas
+CREATE TABLE app.anexos (
+    anexo_id BIGSERIAL PRIMARY KEY,
+    tarefa_id BIGINT NOT NULL REFERENCES app.tarefas(tarefa_id) ON DELETE CASCADE,
+    nome_original VARCHAR(255) NOT NULL,
+    nome_arquivo VARCHAR(255) NOT NULL,
+    tipo_mime VARCHAR(100) NOT NULL,
+    tamanho BIGINT NOT NULL,
+    caminho_arquivo VARCHAR(500) NOT NULL,
+    criado_em TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- =====================================================
+-- ÍNDICES PARA OTIMIZAÇÃO DE PERFORMANCE
+-- =====================================================
+
+-- Índices para consultas frequentes por status, prioridade e data de vencimento
+CREATE INDEX idx_tarefas_status ON app.tarefas(status);
+CREATE INDEX idx_tarefas_prioridade ON app.tarefas(prioridade);
+CREATE INDEX idx_tarefas_data_vencimento ON app.tarefas(data_vencimento);
+
+-- =====================================================
+-- FUNÇÕES E TRIGGERS PARA AUTOMAÇÃO
+-- =====================================================
+
+-- Função para atualizar automaticamente o campo 'atualizado_em'
+CREATE OR REPLACE FUNCTION app.atualiza_data_atualizacao()
+RETURNS TRIGGER AS $$
+BEGIN
+    NEW.atualizado_em = NOW();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Triggers para atualizar automaticamente a data de modificação
+CREATE TRIGGER atualiza_data_atualizacao_tarefas
+BEFORE UPDATE ON app.tarefas
+FOR EACH ROW
+EXECUTE FUNCTION app.atualiza_data_atualizacao();
+
+CREATE TRIGGER atualiza_data_atualizacao_subtarefas
+BEFORE UPDATE ON app.subtarefas
+FOR EACH ROW
+EXECUTE FUNCTION app.atualiza_data_atualizacao();
@@ -0,0 +1,26 @@
+-- =====================================================
+-- ÍNDICES COMPOSTOS LIDERADOS PELO DONO
+-- =====================================================
+-- Toda listagem filtra por usuario_id (tarefas) ou tarefa_id (subtarefas/anexos) antes de
+-- qualquer outro critério. Os índices de coluna única em status/prioridade/data_vencimento
+-- têm baixa seletividade sozinhos e não servem a essas consultas.
+
+-- Listagem padrão e paginação por cursor: ORDER BY criado_em DESC, tarefa_id DESC
+CREATE INDEX IF NOT EXISTS idx_tarefas_usuario_criado_em
+    ON app.tarefas(usuario_id, criado_em DESC, tarefa_id DESC);
+
+-- Listagem filtrada por status, já na ordem padrão
+CREATE INDEX IF NOT EXISTS idx_tarefas_usuario_status_criado_em
+    ON app.tarefas(usuario_id, status, criado_em DESC);
+
+-- Tarefas vencidas do usuário (data_vencimento < hoje)
+CREATE INDEX IF NOT EXISTS idx_tarefas_usuario_data_vencimento
+    ON app.tarefas(usuario_id, data_vencimento);
+
+-- Chaves estrangeiras: subtarefas/anexos de uma tarefa e contagem de subtarefas pendentes
+CREATE INDEX IF NOT EXISTS idx_subtarefas_tarefa_status ON app.subtarefas(tarefa_id, status);
+CREATE INDEX IF NOT EXISTS idx_anexos_tarefa_id ON app.anexos(tarefa_id);
+
+DROP INDEX IF EXISTS app.idx_tarefas_status;
+DROP INDEX IF EXISTS app.idx_tarefas_prioridade;
+DROP INDEX IF EXISTS app.idx_tarefas_data_vencimento;
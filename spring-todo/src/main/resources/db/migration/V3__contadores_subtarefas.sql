@@ -0,0 +1,29 @@
+-- =====================================================
+-- CONTADORES DE SUBTAREFAS EM app.tarefas
+-- =====================================================
+-- Mantidos pela aplicação (SubtarefaService) com UPDATE atômico na mesma transação da
+-- escrita da subtarefa; ReparoContadoresSubtarefasService corrige eventuais divergências.
+
+ALTER TABLE app.tarefas
+    ADD COLUMN IF NOT EXISTS subtarefas_total INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS subtarefas_pendentes INTEGER NOT NULL DEFAULT 0;
+
+UPDATE app.tarefas t
+SET subtarefas_total = c.total,
+    subtarefas_pendentes = c.pendentes
+FROM (
+    SELECT tarefa_id,
+           COUNT(*) AS total,
+           COUNT(*) FILTER (WHERE status <> 'CONCLUIDA') AS pendentes
+    FROM app.subtarefas
+    GROUP BY tarefa_id
+) c
+WHERE c.tarefa_id = t.tarefa_id;
+
+-- Ajustar os contadores não é uma alteração da tarefa: o trigger de atualizado_em passa a
+-- disparar só quando muda algum campo editável pelo usuário.
+DROP TRIGGER IF EXISTS atualiza_data_atualizacao_tarefas ON app.tarefas;
+CREATE TRIGGER atualiza_data_atualizacao_tarefas
+BEFORE UPDATE OF titulo, descricao, data_vencimento, status, prioridade ON app.tarefas
+FOR EACH ROW
+EXECUTE FUNCTION app.atualiza_data_atualizacao();
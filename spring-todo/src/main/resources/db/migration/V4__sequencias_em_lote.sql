@@ -0,0 +1,11 @@
+-- =====================================================
+-- SEQUÊNCIAS COM INCREMENTO 50 (OTIMIZADOR POOLED)
+-- =====================================================
+-- Tarefa, Subtarefa e Anexo passam de IDENTITY para SEQUENCE com allocationSize = 50: cada
+-- nextval devolve o fim de um bloco de 50 ids que o Hibernate distribui em memória. Os blocos
+-- começam depois do valor atual, então não colidem com ids já usados. O DEFAULT nextval das
+-- colunas continua valendo para INSERTs manuais (que apenas pulam 50 a cada linha).
+
+ALTER SEQUENCE app.tarefas_tarefa_id_seq INCREMENT BY 50;
+ALTER SEQUENCE app.subtarefas_subtarefa_id_seq INCREMENT BY 50;
+ALTER SEQUENCE app.anexos_anexo_id_seq INCREMENT BY 50;
@@ -0,0 +1,30 @@
+-- =====================================================
+-- TOKENS DE AUTENTICAÇÃO
+-- =====================================================
+-- Refresh tokens e access tokens revogados não existiam no init-db.sql marcado como V1.
+-- IF NOT EXISTS: bancos que rodaram versões com ddl-auto=update já podem ter as tabelas.
+
+-- Tabela de refresh tokens (apenas o hash SHA-256 do token é armazenado)
+CREATE TABLE IF NOT EXISTS app.refresh_tokens (
+    refresh_token_id BIGSERIAL PRIMARY KEY,
+    usuario_id UUID NOT NULL REFERENCES app.usuarios(usuario_id) ON DELETE CASCADE,
+    token_hash VARCHAR(64) UNIQUE NOT NULL,
+    expira_em TIMESTAMP NOT NULL,
+    revogado_em TIMESTAMP,
+    criado_em TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Tabela de access tokens revogados (logout) até a expiração do JWT
+CREATE TABLE IF NOT EXISTS app.tokens_revogados (
+    jti UUID PRIMARY KEY,
+    expira_em TIMESTAMP WITH TIME ZONE NOT NULL,
+    revogado_em TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Índice para revogação de todos os refresh tokens de um usuário
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_usuario_id ON app.refresh_tokens(usuario_id);
+
+-- Índices para sincronização e limpeza dos tokens revogados
+CREATE INDEX IF NOT EXISTS idx_tokens_revogados_revogado_em ON app.tokens_revogados(revogado_em);
+CREATE INDEX IF NOT EXISTS idx_tokens_revogados_expira_em ON app.tokens_revogados(expira_em);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expira_em ON app.refresh_tokens(expira_em);
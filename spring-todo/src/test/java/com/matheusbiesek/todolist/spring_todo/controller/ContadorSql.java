@@ -0,0 +1,114 @@
+package com.matheusbiesek.todolist.spring_todo.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Lazy;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mede o custo em SQL de um trecho de código: round trips ao banco e linhas lidas (via
+ * datasource-proxy em volta do DataSource) e entidades hidratadas (Statistics do Hibernate).
+ */
+@TestConfiguration
+public class ContadorSql implements QueryExecutionListener, MethodExecutionListener {
+
+    public record Medicao(long consultas, long linhas, long entidades, List<String> sql) {
+
+        public String resumo() {
+            return consultas + " consultas, " + linhas + " linhas, " + entidades + " entidades";
+        }
+    }
+
+    public record Orcamento(long consultas, long linhas, long entidades) {
+    }
+
+    @FunctionalInterface
+    public interface Trecho {
+        void executar() throws Exception;
+    }
+
+    private final AtomicLong consultas = new AtomicLong();
+    private final AtomicLong linhas = new AtomicLong();
+    private final List<String> sql = Collections.synchronizedList(new ArrayList<>());
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ContadorSql(@Lazy EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Bean
+    static BeanPostProcessor dataSourceComContadorSql(@Lazy ContadorSql contadorSql) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("contador-sql")
+                            .listener(contadorSql)
+                            .methodListener(contadorSql)
+                            .proxyResultSet()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Executa o trecho com o cache de segundo nível vazio (custo de uma requisição "fria")
+     * e devolve o que foi consumido apenas por ele.
+     */
+    public Medicao medir(Trecho trecho) throws Exception {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        Statistics statistics = sessionFactory.getStatistics();
+
+        statistics.clear();
+        consultas.set(0);
+        linhas.set(0);
+        sql.clear();
+
+        trecho.executar();
+
+        return new Medicao(consultas.get(), linhas.get(), statistics.getEntityLoadCount(), List.copyOf(sql));
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        consultas.incrementAndGet();
+        queryInfoList.forEach(queryInfo -> sql.add(queryInfo.getQuery()));
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            linhas.incrementAndGet();
+        }
+    }
+}
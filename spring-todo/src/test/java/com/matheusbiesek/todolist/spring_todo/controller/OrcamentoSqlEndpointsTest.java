@@ -0,0 +1,590 @@
+package com.matheusbiesek.todolist.spring_todo.controller;
+
+import com.matheusbiesek.todolist.spring_todo.controller.ContadorSql.Medicao;
+import com.matheusbiesek.todolist.spring_todo.controller.ContadorSql.Orcamento;
+import com.matheusbiesek.todolist.spring_todo.entity.Subtarefa;
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
+import com.matheusbiesek.todolist.spring_todo.enums.Prioridade;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import com.matheusbiesek.todolist.spring_todo.repository.TarefaRepository;
+import com.matheusbiesek.todolist.spring_todo.repository.UsuarioRepository;
+import com.matheusbiesek.todolist.spring_todo.service.JwtService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Orçamento de SQL por endpoint: cada teste executa uma requisição com o cache de segundo
+ * nível vazio e falha se ela passar do número de consultas, linhas lidas ou entidades
+ * hidratadas previsto. Ao mudar um endpoint de propósito, ajuste o orçamento junto.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(ContadorSql.class)
+class OrcamentoSqlEndpointsTest {
+
+    private static final int TAREFAS = 30;
+    private static final int SUBTAREFAS_POR_TAREFA = 3;
+    private static final String SENHA = "senha-teste";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ContadorSql contadorSql;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    private Usuario usuario;
+    private Cookie accessToken;
+    private Tarefa tarefa;
+    private Long subtarefaId;
+
+    @BeforeEach
+    void setUp() {
+        usuario = new Usuario();
+        usuario.setNomeUsuario("u" + UUID.randomUUID().toString().substring(0, 12));
+        usuario.setEmail(usuario.getNomeUsuario() + "@example.com");
+        usuario.setSenhaHash(passwordEncoder.encode(SENHA));
+        usuario = usuarioRepository.save(usuario);
+        accessToken = new Cookie("access-token", jwtService.generateAccessToken(usuario.getUsuarioId()));
+
+        List<Tarefa> tarefas = new ArrayList<>();
+        for (int i = 0; i < TAREFAS; i++) {
+            tarefas.add(criarTarefa(i));
+        }
+        tarefas = tarefaRepository.saveAll(tarefas);
+        tarefa = tarefas.get(0);
+        subtarefaId = tarefa.getSubtarefas().get(0).getSubtarefaId();
+    }
+
+    // ---------- Autenticação ----------
+
+    @Test
+    void register() throws Exception {
+        String corpo = """
+                {"nomeUsuario":"%s","email":"%s@example.com","senha":"%s"}
+                """.formatted("n" + UUID.randomUUID().toString().substring(0, 12), UUID.randomUUID(), SENHA);
+
+        verificar("POST /api/auth/register", new Orcamento(1, 0, 0),
+                () -> executarAssincrono(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON).content(corpo), status().isOk()));
+    }
+
+    @Test
+    void login() throws Exception {
+        verificar("POST /api/auth/login", new Orcamento(2, 1, 1),
+                () -> login(usuario.getNomeUsuario()));
+    }
+
+    @Test
+    void refresh() throws Exception {
+        Cookie refreshToken = login(usuario.getNomeUsuario()).getResponse().getCookie("refresh-token");
+
+        verificar("POST /api/auth/refresh", new Orcamento(3, 1, 2),
+                () -> mockMvc.perform(post("/api/auth/refresh").cookie(refreshToken)).andExpect(status().isOk()));
+    }
+
+    @Test
+    void logout() throws Exception {
+        Cookie refreshToken = login(usuario.getNomeUsuario()).getResponse().getCookie("refresh-token");
+
+        verificar("POST /api/auth/logout", new Orcamento(4, 1, 1),
+                () -> mockMvc.perform(post("/api/auth/logout").cookie(accessToken, refreshToken))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void disponibilidade() throws Exception {
+        verificar("GET /api/auth/disponibilidade", new Orcamento(0, 0, 0),
+                () -> mockMvc.perform(get("/api/auth/disponibilidade")
+                                .param("nomeUsuario", usuario.getNomeUsuario()))
+                        .andExpect(status().isOk()));
+    }
+
+    // ---------- Tarefas ----------
+
+    @Test
+    void listarTarefas() throws Exception {
+        verificar("GET /api/tarefas", new Orcamento(3, 41, 0),
+                () -> mockMvc.perform(get("/api/tarefas").cookie(accessToken).param("size", "10"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void listarTarefasSemTotal() throws Exception {
+        verificar("GET /api/tarefas?withTotal=false", new Orcamento(2, 41, 0),
+                () -> mockMvc.perform(get("/api/tarefas").cookie(accessToken)
+                                .param("size", "10").param("withTotal", "false"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.content.length()").value(10))
+                        .andExpect(jsonPath("$.last").value(false))
+                        .andExpect(jsonPath("$.totalElements").doesNotExist()));
+    }
+
+    @Test
+    void listarTarefasResumidas() throws Exception {
+        verificar("GET /api/tarefas?view=summary", new Orcamento(2, 11, 0),
+                () -> mockMvc.perform(get("/api/tarefas").cookie(accessToken)
+                                .param("size", "10").param("view", "summary"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.content[0].titulo").exists())
+                        .andExpect(jsonPath("$.content[0].descricao").doesNotExist())
+                        .andExpect(jsonPath("$.content[0].subtarefas").doesNotExist()));
+    }
+
+    @Test
+    void listarTarefasComCampoInvalido() throws Exception {
+        mockMvc.perform(get("/api/tarefas").cookie(accessToken).param("fields", "titulo,senhaHash"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("CAMPO_INVALIDO"));
+    }
+
+    @Test
+    void listarTarefasSemTotalComTotalAproximado() throws Exception {
+        mockMvc.perform(get("/api/tarefas").cookie(accessToken)
+                        .param("withTotal", "false").param("totalAproximado", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Aproximado", String.valueOf(TAREFAS)));
+    }
+
+    @Test
+    void listarTarefasVencidas() throws Exception {
+        verificar("GET /api/tarefas/vencidas", new Orcamento(3, 41, 0),
+                () -> mockMvc.perform(get("/api/tarefas/vencidas").cookie(accessToken).param("size", "10"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void listarTarefasPorCursor() throws Exception {
+        MvcResult primeira = mockMvc.perform(get("/api/tarefas/cursor").cookie(accessToken).param("size", "10"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String cursor = objectMapper.readTree(primeira.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        verificar("GET /api/tarefas/cursor", new Orcamento(2, 41, 0),
+                () -> mockMvc.perform(get("/api/tarefas/cursor").cookie(accessToken)
+                                .param("size", "10").param("cursor", cursor))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void listarTarefasVencidasPorCursor() throws Exception {
+        MvcResult primeira = mockMvc.perform(get("/api/tarefas/vencidas/cursor").cookie(accessToken).param("size", "10"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String cursor = objectMapper.readTree(primeira.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        verificar("GET /api/tarefas/vencidas/cursor", new Orcamento(2, 41, 0),
+                () -> mockMvc.perform(get("/api/tarefas/vencidas/cursor").cookie(accessToken)
+                                .param("size", "10").param("cursor", cursor))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void estatisticasTarefas() throws Exception {
+        // um GROUP BY: no máximo uma linha por combinação de status e prioridade
+        verificar("GET /api/tarefas/estatisticas", new Orcamento(1, 12, 0),
+                () -> mockMvc.perform(get("/api/tarefas/estatisticas").cookie(accessToken))
+                        .andExpect(status().isOk()));
+        verificar("GET /api/tarefas/estatisticas (em cache)", new Orcamento(0, 0, 0),
+                () -> mockMvc.perform(get("/api/tarefas/estatisticas").cookie(accessToken))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void buscarTarefa() throws Exception {
+        verificar("GET /api/tarefas/{id}", new Orcamento(2, 4, 4),
+                () -> mockMvc.perform(get("/api/tarefas/{id}", tarefa.getTarefaId()).cookie(accessToken))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void criarTarefa() throws Exception {
+        verificar("POST /api/tarefas", new Orcamento(1, 0, 0),
+                () -> mockMvc.perform(post("/api/tarefas").cookie(accessToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"titulo\":\"Nova\",\"prioridade\":\"ALTA\"}"))
+                        .andExpect(status().isCreated()));
+    }
+
+    @Test
+    void criarTarefasEmLote() throws Exception {
+        String subtarefas = "[{\"titulo\":\"a\"},{\"titulo\":\"b\"},{\"titulo\":\"c\",\"status\":\"CONCLUIDA\"}]";
+        List<String> tarefas = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tarefas.add("{\"titulo\":\"Lote " + i + "\",\"prioridade\":\"BAIXA\",\"subtarefas\":" + subtarefas + "}");
+        }
+        MvcResult[] resultado = new MvcResult[1];
+        // um INSERT em lote por tabela, mais o nextval de cada sequência quando o bloco reservado acaba
+        verificar("POST /api/tarefas/lote", new Orcamento(4, 2, 0),
+                () -> resultado[0] = mockMvc.perform(post("/api/tarefas/lote").cookie(accessToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[" + String.join(",", tarefas) + "]"))
+                        .andExpect(status().isCreated())
+                        .andReturn());
+
+        JsonNode ids = objectMapper.readTree(resultado[0].getResponse().getContentAsString()).get("tarefaIds");
+        assertThat(ids).hasSize(10);
+        Tarefa primeira = tarefaRepository.findById(ids.get(0).asLong()).orElseThrow();
+        assertThat(primeira.getTitulo()).isEqualTo("Lote 0");
+        assertThat(primeira.getSubtarefasTotal()).isEqualTo(3);
+        assertThat(primeira.getSubtarefasPendentes()).isEqualTo(2);
+        assertThat(tarefaRepository.findById(ids.get(9).asLong()).orElseThrow().getTitulo()).isEqualTo("Lote 9");
+    }
+
+    @Test
+    void rejeitarLoteInvalidoSemTocarNoBanco() throws Exception {
+        verificar("POST /api/tarefas/lote (inválido)", new Orcamento(0, 0, 0),
+                () -> mockMvc.perform(post("/api/tarefas/lote").cookie(accessToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[{\"titulo\":\"Ok\",\"prioridade\":\"ALTA\"},"
+                                        + "{\"titulo\":\"\",\"prioridade\":\"ALTA\",\"subtarefas\":[{\"titulo\":\"\"}]}]"))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("$.details['tarefas[1].titulo']").exists())
+                        .andExpect(jsonPath("$.details['tarefas[1].subtarefas[0].titulo']").exists()));
+    }
+
+    @Test
+    void atualizarTarefa() throws Exception {
+        // tarefa gerenciada alterada in loco: sem existsById nem o SELECT do merge. A troca de status
+        // é um UPDATE condicional à parte, seguido da releitura da tarefa (com anexos e subtarefas)
+        verificar("PUT /api/tarefas/{id}", new Orcamento(5, 5, 5),
+                () -> mockMvc.perform(put("/api/tarefas/{id}", tarefa.getTarefaId()).cookie(accessToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"titulo\":\"Editada\",\"status\":\"EM_PROGRESSO\",\"prioridade\":\"BAIXA\"}"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void atualizarTarefaParcial() throws Exception {
+        // leitura da tarefa e das subtarefas + um UPDATE só com as colunas que mudaram
+        Medicao medicao = verificar("PATCH /api/tarefas/{id}", new Orcamento(3, 4, 4),
+                () -> mockMvc.perform(patch("/api/tarefas/{id}", tarefa.getTarefaId()).cookie(accessToken)
+                                .contentType("application/merge-patch+json")
+                                .content("{\"titulo\":\"Parcial\",\"dataVencimento\":null,\"prioridade\":\"MEDIA\"}"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.titulo").value("Parcial"))
+                        .andExpect(jsonPath("$.dataVencimento").doesNotExist())
+                        .andExpect(jsonPath("$.status").value("PENDENTE")));
+
+        assertThat(unicoUpdate(medicao))
+                .contains("titulo", "data_vencimento", "atualizado_em")
+                .doesNotContain("descricao", "prioridade", "status", "subtarefas_");
+    }
+
+    @Test
+    void rejeitarConclusaoPorPatchComSubtarefasPendentes() throws Exception {
+        mockMvc.perform(patch("/api/tarefas/{id}", tarefa.getTarefaId()).cookie(accessToken)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"titulo\":\"Concluida\",\"status\":\"CONCLUIDA\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("TAREFA_COM_SUBTAREFAS_PENDENTES"));
+
+        Tarefa atual = tarefaRepository.findById(tarefa.getTarefaId()).orElseThrow();
+        assertThat(atual.getStatus()).isEqualTo(StatusTarefa.PENDENTE);
+        assertThat(atual.getTitulo()).isEqualTo("Tarefa 0");
+    }
+
+    @Test
+    void rejeitarPatchInvalidoSemUpdate() throws Exception {
+        Medicao medicao = contadorSql.medir(() -> mockMvc.perform(patch("/api/tarefas/{id}", tarefa.getTarefaId())
+                        .cookie(accessToken)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"titulo\":null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ERRO_VALIDACAO"))
+                .andExpect(jsonPath("$.details.titulo").exists()));
+
+        assertThat(medicao.sql()).noneMatch(sql -> sql.toLowerCase().startsWith("update"));
+        mockMvc.perform(patch("/api/tarefas/{id}", tarefa.getTarefaId()).cookie(accessToken)
+                        .contentType("application/merge-patch+json")
+                        .content("[{\"titulo\":\"Lista\"}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("PATCH_INVALIDO"));
+        assertThat(tarefaRepository.findById(tarefa.getTarefaId()).orElseThrow().getTitulo()).isEqualTo("Tarefa 0");
+    }
+
+    @Test
+    void atualizarStatusTarefa() throws Exception {
+        // UPDATE condicional, releitura da tarefa e subtarefas; no PostgreSQL o RETURNING dispensa a releitura
+        verificar("PATCH /api/tarefas/{id}/status", new Orcamento(3, 4, 4),
+                () -> mockMvc.perform(patch("/api/tarefas/{id}/status", tarefa.getTarefaId()).cookie(accessToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"status\":\"EM_PROGRESSO\"}"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void recusarConclusaoComSubtarefasPendentes() throws Exception {
+        // UPDATE condicional que não casa + uma consulta para diferenciar de tarefa inexistente
+        verificar("PATCH /api/tarefas/{id}/status (pendentes)", new Orcamento(2, 1, 0),
+                () -> mockMvc.perform(patch("/api/tarefas/{id}/status", tarefa.getTarefaId()).cookie(accessToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"status\":\"CONCLUIDA\"}"))
+                        .andExpect(status().isBadRequest()));
+    }
+
+    @Test
+    void atualizarStatusTarefasEmLote() throws Exception {
+        // um único UPDATE com dono, filtro e status atual no WHERE; nenhuma tarefa carregada
+        verificar("PATCH /api/tarefas/status", new Orcamento(1, 0, 0),
+                () -> mockMvc.perform(patch("/api/tarefas/status").cookie(accessToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"filtro\":{\"prioridade\":[\"MEDIA\"]},\"status\":\"CANCELADA\"}"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.atualizadas").value(greaterThan(0))));
+    }
+
+    @Test
+    void rejeitarStatusEmLoteSemAlvo() throws Exception {
+        mockMvc.perform(patch("/api/tarefas/status").cookie(accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"CONCLUIDA\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("ERRO_VALIDACAO"));
+    }
+
+    @Test
+    void deletarTarefa() throws Exception {
+        verificar("DELETE /api/tarefas/{id}", new Orcamento(5, 4, 4),
+                () -> mockMvc.perform(delete("/api/tarefas/{id}", tarefa.getTarefaId()).cookie(accessToken))
+                        .andExpect(status().isNoContent()));
+    }
+
+    // ---------- Subtarefas ----------
+
+    @Test
+    void listarSubtarefas() throws Exception {
+        verificar("GET /api/subtarefas/tarefa/{tarefaId}", new Orcamento(3, 7, 7),
+                () -> mockMvc.perform(get("/api/subtarefas/tarefa/{tarefaId}", tarefa.getTarefaId()).cookie(accessToken))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void listarSubtarefasSemTotal() throws Exception {
+        verificar("GET /api/subtarefas/tarefa/{tarefaId}?withTotal=false", new Orcamento(3, 7, 7),
+                () -> mockMvc.perform(get("/api/subtarefas/tarefa/{tarefaId}", tarefa.getTarefaId()).cookie(accessToken)
+                                .param("withTotal", "false"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.last").value(true)));
+    }
+
+    @Test
+    void buscarSubtarefa() throws Exception {
+        verificar("GET /api/subtarefas/{id}", new Orcamento(1, 1, 3),
+                () -> mockMvc.perform(get("/api/subtarefas/{id}", subtarefaId).cookie(accessToken))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void criarSubtarefa() throws Exception {
+        // INSERT + UPDATE dos contadores da tarefa
+        verificar("POST /api/subtarefas/tarefa/{tarefaId}", new Orcamento(4, 4, 4),
+                () -> mockMvc.perform(post("/api/subtarefas/tarefa/{tarefaId}", tarefa.getTarefaId()).cookie(accessToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"titulo\":\"Nova subtarefa\"}"))
+                        .andExpect(status().isCreated()));
+    }
+
+    @Test
+    void atualizarSubtarefa() throws Exception {
+        // SELECT ... FOR UPDATE da subtarefa, tarefa para conferir o dono e o UPDATE
+        verificar("PUT /api/subtarefas/{id}", new Orcamento(3, 2, 3),
+                () -> mockMvc.perform(put("/api/subtarefas/{id}", subtarefaId).cookie(accessToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"titulo\":\"Editada\",\"status\":\"EM_PROGRESSO\"}"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void atualizarSubtarefaParcial() throws Exception {
+        // subtarefa travada, tarefa para conferir o dono, UPDATE do status e dos contadores da tarefa
+        Medicao medicao = verificar("PATCH /api/subtarefas/{id}", new Orcamento(4, 2, 3),
+                () -> mockMvc.perform(patch("/api/subtarefas/{id}", subtarefaId).cookie(accessToken)
+                                .contentType("application/merge-patch+json")
+                                .content("{\"status\":\"CONCLUIDA\"}"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.titulo").value("Subtarefa 0"))
+                        .andExpect(jsonPath("$.status").value("CONCLUIDA")));
+
+        String update = medicao.sql().stream()
+                .map(String::toLowerCase)
+                .filter(sql -> sql.startsWith("update app.subtarefas"))
+                .findFirst().orElseThrow();
+        assertThat(update).contains("status", "atualizado_em").doesNotContain("titulo");
+        assertThat(tarefaRepository.findById(tarefa.getTarefaId()).orElseThrow().getSubtarefasPendentes())
+                .isEqualTo(SUBTAREFAS_POR_TAREFA - 1);
+    }
+
+    @Test
+    void atualizarStatusSubtarefa() throws Exception {
+        // a releitura da subtarefa no serviço é um SELECT ... FOR UPDATE, fora do cache
+        verificar("PATCH /api/subtarefas/{id}/status", new Orcamento(4, 2, 4),
+                () -> mockMvc.perform(patch("/api/subtarefas/{id}/status", subtarefaId).cookie(accessToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"status\":\"CONCLUIDA\"}"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void deletarSubtarefa() throws Exception {
+        verificar("DELETE /api/subtarefas/{id}", new Orcamento(4, 2, 4),
+                () -> mockMvc.perform(delete("/api/subtarefas/{id}", subtarefaId).cookie(accessToken))
+                        .andExpect(status().isNoContent()));
+    }
+
+    @Test
+    void concluirSubtarefas() throws Exception {
+        // dono conferido sem carregar a tarefa; no H2 os ids abertos vêm de SELECT ... FOR UPDATE, no
+        // PostgreSQL do próprio UPDATE ... RETURNING: só essas subtarefas saem do cache
+        verificar("PATCH /api/subtarefas/tarefa/{tarefaId}/concluir", new Orcamento(4, 4, 0),
+                () -> mockMvc.perform(patch("/api/subtarefas/tarefa/{tarefaId}/concluir", tarefa.getTarefaId())
+                                .cookie(accessToken))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void contarSubtarefasPendentes() throws Exception {
+        // contador lido da própria tarefa, sem COUNT em app.subtarefas
+        verificar("GET /api/subtarefas/tarefa/{tarefaId}/count-pendentes", new Orcamento(2, 4, 4),
+                () -> mockMvc.perform(get("/api/subtarefas/tarefa/{tarefaId}/count-pendentes", tarefa.getTarefaId())
+                                .cookie(accessToken))
+                        .andExpect(status().isOk()));
+    }
+
+    // ---------- Anexos ----------
+
+    @Test
+    void listarAnexos() throws Exception {
+        enviarAnexo();
+
+        verificar("GET /api/tarefas/{tarefaId}/anexos", new Orcamento(3, 5, 5),
+                () -> mockMvc.perform(get("/api/tarefas/{tarefaId}/anexos", tarefa.getTarefaId()).cookie(accessToken))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void uploadAnexo() throws Exception {
+        verificar("POST /api/tarefas/{tarefaId}/anexos", new Orcamento(3, 4, 4),
+                this::enviarAnexo);
+    }
+
+    @Test
+    void downloadAnexo() throws Exception {
+        long anexoId = enviarAnexo();
+
+        verificar("GET /api/tarefas/{tarefaId}/anexos/{anexoId}/download", new Orcamento(4, 6, 6),
+                () -> mockMvc.perform(get("/api/tarefas/{tarefaId}/anexos/{anexoId}/download",
+                                tarefa.getTarefaId(), anexoId).cookie(accessToken))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void deletarAnexo() throws Exception {
+        long anexoId = enviarAnexo();
+
+        verificar("DELETE /api/tarefas/{tarefaId}/anexos/{anexoId}", new Orcamento(6, 7, 6),
+                () -> mockMvc.perform(delete("/api/tarefas/{tarefaId}/anexos/{anexoId}",
+                                tarefa.getTarefaId(), anexoId).cookie(accessToken))
+                        .andExpect(status().isNoContent()));
+    }
+
+    private Medicao verificar(String endpoint, Orcamento orcamento, ContadorSql.Trecho requisicao) throws Exception {
+        Medicao medicao = contadorSql.medir(requisicao);
+        String detalhe = endpoint + ": " + medicao.resumo() + "\n  " + String.join("\n  ", medicao.sql());
+
+        assertThat(medicao.consultas()).as("consultas em " + detalhe).isLessThanOrEqualTo(orcamento.consultas());
+        assertThat(medicao.linhas()).as("linhas lidas em " + detalhe).isLessThanOrEqualTo(orcamento.linhas());
+        assertThat(medicao.entidades()).as("entidades hidratadas em " + detalhe).isLessThanOrEqualTo(orcamento.entidades());
+        return medicao;
+    }
+
+    private static String unicoUpdate(Medicao medicao) {
+        List<String> updates = medicao.sql().stream()
+                .map(String::toLowerCase)
+                .filter(sql -> sql.startsWith("update"))
+                .toList();
+        assertThat(updates).hasSize(1);
+        return updates.get(0);
+    }
+
+    private MvcResult login(String nomeUsuario) throws Exception {
+        String corpo = "{\"nomeUsuario\":\"" + nomeUsuario + "\",\"senha\":\"" + SENHA + "\"}";
+        return executarAssincrono(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(corpo),
+                status().isOk());
+    }
+
+    private MvcResult executarAssincrono(RequestBuilder requisicao, ResultMatcher esperado) throws Exception {
+        MvcResult iniciada = mockMvc.perform(requisicao).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(iniciada)).andExpect(esperado).andReturn();
+    }
+
+    private long enviarAnexo() throws Exception {
+        MockMultipartFile arquivo = new MockMultipartFile("arquivo", "nota.txt", "text/plain", "conteudo".getBytes());
+        MvcResult resultado = mockMvc.perform(multipart("/api/tarefas/{tarefaId}/anexos", tarefa.getTarefaId())
+                        .file(arquivo).cookie(accessToken))
+                .andExpect(status().isCreated())
+                .andReturn();
+        JsonNode corpo = objectMapper.readTree(resultado.getResponse().getContentAsString());
+        return corpo.get("anexoId").asLong();
+    }
+
+    private Tarefa criarTarefa(int indice) {
+        Tarefa nova = new Tarefa();
+        nova.setUsuario(usuario);
+        nova.setTitulo("Tarefa " + indice);
+        nova.setStatus(StatusTarefa.PENDENTE);
+        nova.setPrioridade(Prioridade.MEDIA);
+        nova.setDataVencimento(LocalDate.now().minusDays(1));
+        List<Subtarefa> subtarefas = new ArrayList<>();
+        for (int i = 0; i < SUBTAREFAS_POR_TAREFA; i++) {
+            Subtarefa subtarefa = new Subtarefa();
+            subtarefa.setTarefa(nova);
+            subtarefa.setTitulo("Subtarefa " + i);
+            subtarefa.setStatus(StatusTarefa.PENDENTE);
+            subtarefas.add(subtarefa);
+        }
+        nova.setSubtarefas(subtarefas);
+        return nova;
+    }
+}
@@ -0,0 +1,253 @@
+package com.matheusbiesek.todolist.spring_todo.repository;
+
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Aplica as migrations do Flyway em um PostgreSQL real (com {@code ddl-auto=validate}, o que
+ * também confere o mapeamento das entidades) e verifica pelo {@code EXPLAIN} que as consultas
+ * das listagens usam os índices compostos. Também exercita o SQL específico do PostgreSQL, como
+ * o {@code UPDATE ... RETURNING} da troca de status, e o baseline de um banco criado pelo
+ * init-db.sql de antes do Flyway. Ignorado quando não há Docker disponível.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MigracoesPostgresTest {
+
+    private static final int USUARIOS = 200;
+    private static final int TAREFAS_POR_USUARIO = 100;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCopyFileToContainer(MountableFile.forClasspathResource("db/bootstrap-postgres.sql"),
+                    "/docker-entrypoint-initdb.d/01-bootstrap.sql")
+            .withCopyFileToContainer(MountableFile.forHostPath("../data-base/init-db.sql"),
+                    "/docker-entrypoint-initdb.d/02-init-db.sql");
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TarefaRepository tarefaRepository;
+
+    @Autowired
+    private SubtarefaRepository subtarefaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String usuario;
+
+    @Value("${spring.datasource.password}")
+    private String senha;
+
+    private UUID usuarioId;
+    private Long tarefaId;
+
+    @BeforeEach
+    void setUp() {
+        Integer tarefas = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM app.tarefas", Integer.class);
+        if (tarefas == null || tarefas == 0) {
+            popular();
+        }
+        usuarioId = jdbcTemplate.queryForObject("SELECT usuario_id FROM app.usuarios ORDER BY nome_usuario LIMIT 1",
+                UUID.class);
+        tarefaId = jdbcTemplate.queryForObject("SELECT MIN(tarefa_id) FROM app.tarefas WHERE usuario_id = ?",
+                Long.class, usuarioId);
+    }
+
+    @Test
+    void deveAplicarMigrationsComObjetosDoRoleOrchestrator() {
+        Integer versoes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM app.flyway_schema_history WHERE success", Integer.class);
+        String dono = jdbcTemplate.queryForObject(
+                "SELECT tableowner FROM pg_tables WHERE schemaname = 'app' AND tablename = 'tarefas'", String.class);
+
+        assertThat(versoes).isGreaterThanOrEqualTo(2);
+        assertThat(dono).isEqualTo("app_orchestrator");
+    }
+
+    @Test
+    void deveCriarTabelasDeTokensAoMigrarBancoAnteriorAoFlyway() throws IOException {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS legado");
+        jdbcTemplate.execute("CREATE DATABASE legado");
+        DriverManagerDataSource legado = new DriverManagerDataSource(
+                url.replaceFirst("/[^/?]+(\\?|$)", "/legado$1"), usuario, senha);
+        JdbcTemplate jdbcLegado = new JdbcTemplate(legado);
+        jdbcLegado.execute(new ClassPathResource("db/init-db-anterior-ao-flyway.sql")
+                .getContentAsString(StandardCharsets.UTF_8));
+        // procedimento do README: reexecutar o init-db.sql atual antes de subir a aplicação
+        jdbcLegado.execute(Files.readString(Path.of("../data-base/init-db.sql")));
+
+        Flyway.configure().configuration(flyway.getConfiguration()).dataSource(legado).load().migrate();
+
+        assertThat(jdbcLegado.queryForObject(
+                "SELECT version FROM app.flyway_schema_history WHERE type = 'BASELINE'", String.class))
+                .isEqualTo("1");
+        assertThat(jdbcLegado.queryForList("SELECT tablename FROM pg_tables WHERE schemaname = 'app'", String.class))
+                .contains("refresh_tokens", "tokens_revogados");
+        assertThat(jdbcLegado.queryForList("SELECT indexname FROM pg_indexes WHERE schemaname = 'app'", String.class))
+                .contains("idx_refresh_tokens_usuario_id", "idx_refresh_tokens_expira_em",
+                        "idx_tokens_revogados_revogado_em", "idx_tokens_revogados_expira_em");
+    }
+
+    @Test
+    void deveListarTarefasDoUsuarioPeloIndiceDeCriacao() {
+        assertThat(plano("SELECT * FROM app.tarefas WHERE usuario_id = ? ORDER BY criado_em DESC LIMIT 10",
+                usuarioId)).contains("idx_tarefas_usuario_criado_em");
+    }
+
+    @Test
+    void deveSeguirCursorPeloIndiceDeCriacao() {
+        assertThat(plano("SELECT * FROM app.tarefas WHERE usuario_id = ? " +
+                        "AND (criado_em, tarefa_id) < (now() - interval '50 minutes', 0) " +
+                        "ORDER BY criado_em DESC, tarefa_id DESC LIMIT 11",
+                usuarioId)).contains("idx_tarefas_usuario_criado_em");
+    }
+
+    @Test
+    void deveFiltrarTarefasPorStatusPeloIndiceComposto() {
+        assertThat(plano("SELECT * FROM app.tarefas WHERE usuario_id = ? AND status = ? " +
+                        "ORDER BY criado_em DESC LIMIT 10",
+                usuarioId, "PENDENTE")).contains("idx_tarefas_usuario_status_criado_em");
+    }
+
+    @Test
+    void deveListarTarefasVencidasPeloIndiceDeVencimento() {
+        assertThat(plano("SELECT * FROM app.tarefas WHERE usuario_id = ? AND data_vencimento < ?",
+                usuarioId, LocalDate.now())).contains("idx_tarefas_usuario_data_vencimento");
+    }
+
+    @Test
+    void deveBuscarSubtarefasEAnexosPelaChaveEstrangeira() {
+        assertThat(plano("SELECT * FROM app.subtarefas WHERE tarefa_id = ?", tarefaId))
+                .contains("idx_subtarefas_tarefa_status");
+        assertThat(plano("SELECT COUNT(*) FROM app.subtarefas WHERE tarefa_id = ? AND status <> 'CONCLUIDA'", tarefaId))
+                .contains("idx_subtarefas_tarefa_status");
+        assertThat(plano("SELECT * FROM app.anexos WHERE tarefa_id = ?", tarefaId))
+                .contains("idx_anexos_tarefa_id");
+    }
+
+    @Test
+    void deveAjustarContadoresSemAlterarAtualizadoEm() {
+        String sql = "SELECT atualizado_em::text FROM app.tarefas WHERE tarefa_id = ?";
+        String antes = jdbcTemplate.queryForObject(sql, String.class, tarefaId);
+
+        jdbcTemplate.update("UPDATE app.tarefas SET subtarefas_total = subtarefas_total + 1, " +
+                "subtarefas_pendentes = subtarefas_pendentes + 1 WHERE tarefa_id = ?", tarefaId);
+
+        assertThat(jdbcTemplate.queryForObject(sql, String.class, tarefaId)).isEqualTo(antes);
+        jdbcTemplate.update("UPDATE app.tarefas SET titulo = titulo || '!' WHERE tarefa_id = ?", tarefaId);
+        assertThat(jdbcTemplate.queryForObject(sql, String.class, tarefaId)).isNotEqualTo(antes);
+    }
+
+    @Test
+    void deveTransicionarStatusComUpdateReturning() {
+        tarefaRepository.repararContadoresSubtarefas(tarefaId, tarefaId);
+        jdbcTemplate.update("UPDATE app.tarefas SET status = 'PENDENTE' WHERE tarefa_id = ?", tarefaId);
+
+        assertThat(transicionar(UUID.randomUUID(), StatusTarefa.EM_PROGRESSO)).isEmpty();
+        // subtarefas pendentes: o WHERE não casa e nada muda
+        assertThat(transicionar(usuarioId, StatusTarefa.CONCLUIDA)).isEmpty();
+
+        assertThat(transicionar(usuarioId, StatusTarefa.EM_PROGRESSO)).hasValueSatisfying(tarefa -> {
+            assertThat(tarefa.getStatus()).isEqualTo(StatusTarefa.EM_PROGRESSO);
+            assertThat(tarefa.getSubtarefasPendentes()).isEqualTo(2);
+        });
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM app.tarefas WHERE tarefa_id = ?",
+                String.class, tarefaId)).isEqualTo("EM_PROGRESSO");
+    }
+
+    @Test
+    void deveConcluirSubtarefasComUpdateReturning() {
+        // outra tarefa do usuário: a de tarefaId precisa manter as subtarefas pendentes
+        Long outraTarefaId = jdbcTemplate.queryForObject(
+                "SELECT MAX(tarefa_id) FROM app.tarefas WHERE usuario_id = ?", Long.class, usuarioId);
+        String pendentes = "SELECT COUNT(*) FROM app.subtarefas WHERE tarefa_id = ? AND status <> 'CONCLUIDA'";
+        Integer abertas = jdbcTemplate.queryForObject(pendentes, Integer.class, outraTarefaId);
+
+        Integer concluidas = new TransactionTemplate(transactionManager).execute(transacao ->
+                subtarefaRepository.concluirTodasDaTarefa(outraTarefaId, LocalDateTime.now()));
+
+        assertThat(concluidas).isEqualTo(abertas).isPositive();
+        assertThat(jdbcTemplate.queryForObject(pendentes, Integer.class, outraTarefaId)).isZero();
+    }
+
+    private Optional<Tarefa> transicionar(UUID usuario, StatusTarefa status) {
+        return new TransactionTemplate(transactionManager)
+                .execute(transacao -> tarefaRepository.transicionarStatus(tarefaId, usuario, status));
+    }
+
+    private String plano(String sql, Object... parametros) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parametros));
+    }
+
+    private void popular() {
+        jdbcTemplate.update("INSERT INTO app.usuarios (nome_usuario, email, senha_hash) " +
+                "SELECT 'usuario' || g, 'usuario' || g || '@example.com', 'hash' FROM generate_series(1, ?) g",
+                USUARIOS);
+        jdbcTemplate.update("INSERT INTO app.tarefas (usuario_id, titulo, status, prioridade, data_vencimento, criado_em) " +
+                "SELECT u.usuario_id, 'Tarefa ' || g, " +
+                "(ARRAY['PENDENTE', 'EM_PROGRESSO', 'CONCLUIDA', 'CANCELADA'])[1 + g % 4], " +
+                "(ARRAY['BAIXA', 'MEDIA', 'ALTA'])[1 + g % 3], " +
+                "current_date + (g % 60) - 30, now() - g * interval '1 minute' " +
+                "FROM app.usuarios u CROSS JOIN generate_series(1, ?) g", TAREFAS_POR_USUARIO);
+        jdbcTemplate.update("INSERT INTO app.subtarefas (tarefa_id, titulo, status) " +
+                "SELECT t.tarefa_id, 'Subtarefa ' || g, CASE WHEN g = 1 THEN 'CONCLUIDA' ELSE 'PENDENTE' END " +
+                "FROM app.tarefas t CROSS JOIN generate_series(1, 3) g");
+        jdbcTemplate.update("INSERT INTO app.anexos (tarefa_id, nome_original, nome_arquivo, tipo_mime, tamanho, caminho_arquivo) " +
+                "SELECT t.tarefa_id, 'nota.txt', t.tarefa_id || '.txt', 'text/plain', 8, '/tmp/' || t.tarefa_id " +
+                "FROM app.tarefas t");
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
@@ -0,0 +1,71 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.controller.ContadorSql;
+import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Criação de tarefas com 30 subtarefas, cada uma em sua transação (como no POST), medida em
+ * round trips (datasource-proxy). "Sem lote" força {@code jdbc_batch_size = 1} na
+ * sessão, o que reproduz o antigo comportamento com IDENTITY: um INSERT por linha.
+ */
+class CriacaoEmLoteBenchmarkTest extends PersistenciaTestBase {
+
+    private static final int TAREFAS = 20;
+    private static final int SUBTAREFAS = 30;
+
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Autowired
+    private ContadorSql contadorSql;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        usuario = criarUsuario();
+    }
+
+    @Test
+    void deveCriarTarefaComSubtarefasEmPoucosRoundTrips() throws Exception {
+        // aquecimento (JIT, planos e blocos de ids já reservados nas duas variantes)
+        criarTarefas(1, TAREFAS);
+        criarTarefas(null, TAREFAS);
+
+        ContadorSql.Medicao semLote = contadorSql.medir(() -> criarTarefas(1, TAREFAS));
+        ContadorSql.Medicao comLote = contadorSql.medir(() -> criarTarefas(null, TAREFAS));
+
+        // sem lote: 1 + 30 INSERTs por tarefa; com lote: um INSERT da tarefa e um lote de subtarefas,
+        // mais um nextval a cada 50 ids de cada sequência
+        assertThat(semLote.consultas()).isGreaterThanOrEqualTo(TAREFAS * (1 + SUBTAREFAS));
+        int nextvals = (TAREFAS + 49) / 50 + (TAREFAS * SUBTAREFAS + 49) / 50;
+        assertThat(comLote.consultas()).isLessThanOrEqualTo(TAREFAS * 2L + nextvals);
+        assertThat(tarefaRepository.count()).isEqualTo(4L * TAREFAS);
+    }
+
+    private void criarTarefas(Integer tamanhoLote, int quantidade) {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < quantidade; i++) {
+            transacao.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(tamanhoLote);
+                tarefaService.save(novaTarefa(usuario, SUBTAREFAS));
+            });
+        }
+    }
+
+}
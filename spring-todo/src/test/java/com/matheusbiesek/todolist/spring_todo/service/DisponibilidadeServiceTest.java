@@ -0,0 +1,124 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.dto.auth.DisponibilidadeResponse;
+import com.matheusbiesek.todolist.spring_todo.repository.UsuarioRepository;
+import com.matheusbiesek.todolist.spring_todo.repository.UsuarioRepository.IdentificacaoUsuario;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DisponibilidadeServiceTest {
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DisponibilidadeService disponibilidadeService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        disponibilidadeService = new DisponibilidadeService(usuarioRepository, 1000, 0.01, meterRegistry);
+    }
+
+    @Test
+    void deveConsultarBancoEnquantoFiltroNaoFoiConstruido() {
+        when(usuarioRepository.existsByNomeUsuario("testuser")).thenReturn(true);
+
+        DisponibilidadeResponse resultado = disponibilidadeService.verificar("testuser", null);
+
+        assertThat(resultado.getNomeUsuarioDisponivel()).isFalse();
+        assertThat(resultado.getEmailDisponivel()).isNull();
+        verify(usuarioRepository).existsByNomeUsuario("testuser");
+    }
+
+    @Test
+    void deveResponderLivrePeloFiltroSemConsultarBanco() {
+        construirFiltroCom("testuser", "test@example.com");
+
+        DisponibilidadeResponse resultado = disponibilidadeService.verificar("novousuario", "novo@example.com");
+
+        assertThat(resultado.getNomeUsuarioDisponivel()).isTrue();
+        assertThat(resultado.getEmailDisponivel()).isTrue();
+        verify(usuarioRepository, never()).existsByNomeUsuario(any());
+        verify(usuarioRepository, never()).existsByEmail(any());
+        assertThat(meterRegistry.get("disponibilidade.consultas").tag("origem", "bloom").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void deveConfirmarNoBancoPossivelColisao() {
+        construirFiltroCom("testuser", "test@example.com");
+        when(usuarioRepository.existsByNomeUsuario("testuser")).thenReturn(true);
+
+        DisponibilidadeResponse resultado = disponibilidadeService.verificar("testuser", null);
+
+        assertThat(resultado.getNomeUsuarioDisponivel()).isFalse();
+        verify(usuarioRepository).existsByNomeUsuario("testuser");
+    }
+
+    @Test
+    void deveIncluirUsuarioRegistradoAposConstrucao() {
+        construirFiltroCom("testuser", "test@example.com");
+        disponibilidadeService.registrar("novousuario", "novo@example.com");
+        when(usuarioRepository.existsByNomeUsuario("novousuario")).thenReturn(true);
+
+        DisponibilidadeResponse resultado = disponibilidadeService.verificar("novousuario", null);
+
+        assertThat(resultado.getNomeUsuarioDisponivel()).isFalse();
+        verify(usuarioRepository).existsByNomeUsuario("novousuario");
+    }
+
+    @Test
+    void deveExporMemoriaDoFiltroComoMetrica() {
+        construirFiltroCom("testuser", "test@example.com");
+
+        double memoria = meterRegistry.get("disponibilidade.bloom.memoria").tag("campo", "email").gauge().value();
+
+        assertThat(memoria).isPositive();
+    }
+
+    @Test
+    void deveContinuarConstrucaoAPartirDoUltimoIdDoLote() {
+        UUID ultimoId = UUID.randomUUID();
+        IdentificacaoUsuario primeiro = mock(IdentificacaoUsuario.class);
+        when(primeiro.getNomeUsuario()).thenReturn("testuser");
+        when(primeiro.getEmail()).thenReturn("test@example.com");
+        when(primeiro.getUsuarioId()).thenReturn(ultimoId);
+        IdentificacaoUsuario segundo = mock(IdentificacaoUsuario.class);
+        when(segundo.getNomeUsuario()).thenReturn("outrousuario");
+        when(segundo.getEmail()).thenReturn("outro@example.com");
+        when(usuarioRepository.count()).thenReturn(10_001L);
+        when(usuarioRepository.findIdentificacoes(any(Limit.class))).thenReturn(Collections.nCopies(10_000, primeiro));
+        when(usuarioRepository.findIdentificacoesApos(eq(ultimoId), any(Limit.class))).thenReturn(List.of(segundo));
+
+        disponibilidadeService.reconstruir();
+        DisponibilidadeResponse resultado = disponibilidadeService.verificar("novousuario", "outro@example.com");
+
+        assertThat(resultado.getNomeUsuarioDisponivel()).isTrue();
+        verify(usuarioRepository).findIdentificacoesApos(eq(ultimoId), any(Limit.class));
+        verify(usuarioRepository).existsByEmail("outro@example.com");
+    }
+
+    private void construirFiltroCom(String nomeUsuario, String email) {
+        IdentificacaoUsuario usuario = mock(IdentificacaoUsuario.class);
+        when(usuario.getNomeUsuario()).thenReturn(nomeUsuario);
+        when(usuario.getEmail()).thenReturn(email);
+        when(usuarioRepository.count()).thenReturn(1L);
+        when(usuarioRepository.findIdentificacoes(any(Limit.class))).thenReturn(List.of(usuario));
+        disponibilidadeService.reconstruir();
+    }
+}
@@ -0,0 +1,117 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.config.CacheConfig;
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaEstatisticasResponse;
+import com.matheusbiesek.todolist.spring_todo.enums.Prioridade;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import com.matheusbiesek.todolist.spring_todo.repository.TarefaRepository;
+import com.matheusbiesek.todolist.spring_todo.repository.TarefaRepository.ContagemTarefas;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EstatisticasTarefaServiceTest {
+
+    private static final UUID USUARIO_ID = UUID.randomUUID();
+
+    @Mock
+    private TarefaRepository tarefaRepository;
+
+    private EstatisticasTarefaService estatisticasTarefaService;
+
+    @BeforeEach
+    void setUp() {
+        estatisticasTarefaService = new EstatisticasTarefaService(tarefaRepository,
+                new ConcurrentMapCacheManager(CacheConfig.ESTATISTICAS_TAREFAS), 100);
+        when(tarefaRepository.contarPorStatusEPrioridade(eq(USUARIO_ID), any())).thenReturn(List.of(
+                grupo(StatusTarefa.PENDENTE, Prioridade.ALTA, 3, 2),
+                grupo(StatusTarefa.PENDENTE, Prioridade.BAIXA, 1, 0),
+                grupo(StatusTarefa.CONCLUIDA, Prioridade.ALTA, 4, 1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void deveSomarGruposPorStatusEPorPrioridade() {
+        TarefaEstatisticasResponse estatisticas = estatisticasTarefaService.calcular(USUARIO_ID);
+
+        assertThat(estatisticas.getTotal()).isEqualTo(8);
+        assertThat(estatisticas.getVencidas()).isEqualTo(3);
+        assertThat(estatisticas.getPorStatus()).containsEntry(StatusTarefa.PENDENTE, 4L)
+                .containsEntry(StatusTarefa.CONCLUIDA, 4L)
+                .containsEntry(StatusTarefa.EM_PROGRESSO, 0L)
+                .containsEntry(StatusTarefa.CANCELADA, 0L);
+        assertThat(estatisticas.getPorPrioridade()).containsEntry(Prioridade.ALTA, 7L)
+                .containsEntry(Prioridade.BAIXA, 1L)
+                .containsEntry(Prioridade.MEDIA, 0L);
+    }
+
+    @Test
+    void deveReusarEstatisticasAteANovaVersao() {
+        estatisticasTarefaService.calcular(USUARIO_ID);
+        estatisticasTarefaService.calcular(USUARIO_ID);
+        verify(tarefaRepository, times(1)).contarPorStatusEPrioridade(eq(USUARIO_ID), any());
+
+        estatisticasTarefaService.invalidar(USUARIO_ID);
+        estatisticasTarefaService.calcular(USUARIO_ID);
+        verify(tarefaRepository, times(2)).contarPorStatusEPrioridade(eq(USUARIO_ID), any());
+    }
+
+    @Test
+    void deveTrocarVersaoSomenteDepoisDoCommit() {
+        estatisticasTarefaService.calcular(USUARIO_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        estatisticasTarefaService.invalidar(USUARIO_ID);
+        estatisticasTarefaService.calcular(USUARIO_ID);
+        verify(tarefaRepository, times(1)).contarPorStatusEPrioridade(eq(USUARIO_ID), any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        estatisticasTarefaService.calcular(USUARIO_ID);
+        verify(tarefaRepository, times(2)).contarPorStatusEPrioridade(eq(USUARIO_ID), any());
+    }
+
+    private ContagemTarefas grupo(StatusTarefa status, Prioridade prioridade, long total, long vencidas) {
+        return new ContagemTarefas() {
+            @Override
+            public StatusTarefa getStatus() {
+                return status;
+            }
+
+            @Override
+            public Prioridade getPrioridade() {
+                return prioridade;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+
+            @Override
+            public Long getVencidas() {
+                return vencidas;
+            }
+        };
+    }
+}
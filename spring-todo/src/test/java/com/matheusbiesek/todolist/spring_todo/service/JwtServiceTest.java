@@ -0,0 +1,72 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "MySuperSecretKeyForJWTTokenGenerationThatIsVeryLongAndSecure123456789";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtService jwtService = new JwtService(SECRET, 100, meterRegistry);
+
+    @Test
+    void deveVerificarTokenEExtrairUsuario() {
+        UUID usuarioId = UUID.randomUUID();
+        String token = jwtService.generateAccessToken(usuarioId);
+
+        Optional<JwtService.TokenVerificado> resultado = jwtService.verifyToken(token);
+
+        assertThat(resultado).isPresent();
+        assertThat(resultado.get().usuarioId()).isEqualTo(usuarioId);
+        assertThat(resultado.get().expiraEm()).isAfter(Instant.now());
+    }
+
+    @Test
+    void deveEmitirJtiDistintoPorToken() {
+        UUID usuarioId = UUID.randomUUID();
+
+        UUID jti1 = jwtService.verifyToken(jwtService.generateAccessToken(usuarioId)).orElseThrow().jti();
+        UUID jti2 = jwtService.verifyToken(jwtService.generateAccessToken(usuarioId)).orElseThrow().jti();
+
+        assertThat(jti1).isNotNull().isNotEqualTo(jti2);
+    }
+
+    @Test
+    void deveServirTokenRepetidoDoCache() {
+        String token = jwtService.generateAccessToken(UUID.randomUUID());
+
+        jwtService.verifyToken(token);
+        jwtService.verifyToken(token);
+
+        double hits = meterRegistry.get("cache.gets")
+                .tag("cache", "jwt.tokens-verificados")
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+        assertThat(hits).isEqualTo(1.0);
+    }
+
+    @Test
+    void deveRejeitarTokenAdulterado() {
+        String token = jwtService.generateAccessToken(UUID.randomUUID());
+        String adulterado = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThat(jwtService.verifyToken(adulterado)).isEmpty();
+        assertThat(jwtService.verifyToken("token-invalido")).isEmpty();
+    }
+
+    @Test
+    void deveRejeitarTokenAssinadoComOutraChave() {
+        JwtService outro = new JwtService(SECRET.replace('M', 'N'), 100, new SimpleMeterRegistry());
+        String token = outro.generateAccessToken(UUID.randomUUID());
+
+        assertThat(jwtService.verifyToken(token)).isEmpty();
+    }
+}
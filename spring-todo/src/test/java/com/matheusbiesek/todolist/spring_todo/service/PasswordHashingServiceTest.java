@@ -0,0 +1,89 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.exception.auth.AutenticacaoSobrecarregadaException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private ThreadPoolTaskExecutor autenticacaoExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+        autenticacaoExecutor = new ThreadPoolTaskExecutor();
+        autenticacaoExecutor.setThreadNamePrefix("autenticacao-");
+        autenticacaoExecutor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingService = new PasswordHashingService(executor, autenticacaoExecutor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        autenticacaoExecutor.shutdown();
+    }
+
+    @Test
+    void deveExecutarOperacaoNoPoolDedicado() throws Exception {
+        CompletableFuture<String> resultado = passwordHashingService.executar(
+                () -> Thread.currentThread().getName());
+
+        assertThat(resultado.get(5, TimeUnit.SECONDS)).startsWith(executor.getThreadNamePrefix());
+    }
+
+    @Test
+    void deveExecutarContinuacaoForaDoPoolDeHash() throws Exception {
+        CompletableFuture<String> resultado = passwordHashingService.executar(
+                () -> Thread.currentThread().getName(),
+                threadDoHash -> threadDoHash + "|" + Thread.currentThread().getName());
+
+        String[] threads = resultado.get(5, TimeUnit.SECONDS).split("\\|");
+        assertThat(threads[0]).startsWith(executor.getThreadNamePrefix());
+        assertThat(threads[1]).startsWith(autenticacaoExecutor.getThreadNamePrefix());
+    }
+
+    @Test
+    void deveRejeitarQuandoPoolEFilaEstaoCheios() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch emExecucao = new CountDownLatch(1);
+
+        passwordHashingService.executar(() -> {
+            emExecucao.countDown();
+            aguardar(liberar);
+            return null;
+        });
+        emExecucao.await(5, TimeUnit.SECONDS);
+        passwordHashingService.executar(() -> null);
+
+        assertThatThrownBy(() -> passwordHashingService.executar(() -> null))
+                .isInstanceOf(AutenticacaoSobrecarregadaException.class);
+        assertThat(meterRegistry.get("senha.hashing.rejeitadas").counter().count()).isEqualTo(1.0);
+
+        liberar.countDown();
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
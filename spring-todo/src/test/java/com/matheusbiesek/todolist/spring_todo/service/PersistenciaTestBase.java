@@ -0,0 +1,94 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.config.CacheConfig;
+import com.matheusbiesek.todolist.spring_todo.controller.ContadorSql;
+import com.matheusbiesek.todolist.spring_todo.entity.Subtarefa;
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
+import com.matheusbiesek.todolist.spring_todo.enums.Prioridade;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import com.matheusbiesek.todolist.spring_todo.repository.RefreshTokenRepository;
+import com.matheusbiesek.todolist.spring_todo.repository.TarefaRepository;
+import com.matheusbiesek.todolist.spring_todo.repository.UsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Base dos testes de serviço contra o banco de teste. Sem transação em volta do teste: cada
+ * chamada ao serviço faz commit como em produção, por isso o banco é limpo antes de cada teste.
+ * Os beans ficam todos aqui, sem {@code @Import} nas subclasses: todas usam o mesmo contexto. Um
+ * contexto a mais recriaria o esquema (create-drop) no mesmo banco em memória e reiniciaria as
+ * sequências sob os blocos de ids já reservados pelos outros contextos.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TarefaService.class, SubtarefaService.class, EstatisticasTarefaService.class, CacheConfig.class,
+        UsuarioService.class, RefreshTokenService.class, ReparoContadoresSubtarefasService.class, ContadorSql.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+abstract class PersistenciaTestBase {
+
+    @Autowired
+    protected TarefaRepository tarefaRepository;
+
+    @Autowired
+    protected UsuarioRepository usuarioRepository;
+
+    @Autowired
+    protected RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    void limparBanco() {
+        tarefaRepository.deleteAll();
+        refreshTokenRepository.deleteAllInBatch();
+        usuarioRepository.deleteAllInBatch();
+    }
+
+    protected Usuario criarUsuario() {
+        Usuario novo = new Usuario();
+        novo.setNomeUsuario("usuario" + UUID.randomUUID().toString().substring(0, 8));
+        novo.setEmail(novo.getNomeUsuario() + "@example.com");
+        novo.setSenhaHash("hash");
+        return usuarioRepository.save(novo);
+    }
+
+    /**
+     * Tarefa pendente, de prioridade média e com vencimento amanhã, ainda não salva, com a
+     * quantidade pedida de subtarefas pendentes. Os testes ajustam o que importa para eles.
+     */
+    protected Tarefa novaTarefa(Usuario dono, int subtarefasPendentes) {
+        Tarefa tarefa = new Tarefa();
+        tarefa.setUsuario(dono);
+        tarefa.setTitulo("Tarefa");
+        tarefa.setStatus(StatusTarefa.PENDENTE);
+        tarefa.setPrioridade(Prioridade.MEDIA);
+        tarefa.setDataVencimento(LocalDate.now().plusDays(1));
+        List<Subtarefa> subtarefas = new ArrayList<>();
+        for (int i = 0; i < subtarefasPendentes; i++) {
+            Subtarefa subtarefa = novaSubtarefa(tarefa, StatusTarefa.PENDENTE);
+            subtarefa.setTitulo("Subtarefa " + i);
+            subtarefas.add(subtarefa);
+        }
+        tarefa.setSubtarefas(subtarefas);
+        return tarefa;
+    }
+
+    protected Subtarefa novaSubtarefa(Tarefa dona, StatusTarefa status) {
+        Subtarefa subtarefa = new Subtarefa();
+        subtarefa.setTarefa(dona);
+        subtarefa.setTitulo("Subtarefa");
+        subtarefa.setStatus(status);
+        return subtarefa;
+    }
+}
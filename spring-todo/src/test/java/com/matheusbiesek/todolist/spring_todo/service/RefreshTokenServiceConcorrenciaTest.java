@@ -0,0 +1,68 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
+import com.matheusbiesek.todolist.spring_todo.exception.auth.RefreshTokenInvalidoException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RefreshTokenServiceConcorrenciaTest extends PersistenciaTestBase {
+
+    private static final int THREADS = 16;
+    private static final int RODADAS = 10;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Test
+    void deveRotacionarApenasUmaVezSobRenovacoesConcorrentes() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int rodada = 0; rodada < RODADAS; rodada++) {
+                Usuario usuario = criarUsuario();
+                String token = refreshTokenService.emitir(usuario.getUsuarioId());
+                CyclicBarrier largada = new CyclicBarrier(THREADS);
+
+                List<Callable<Class<?>>> renovacoes = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    renovacoes.add(() -> {
+                        largada.await();
+                        return rotacionar(token);
+                    });
+                }
+                List<Class<?>> resultados = new ArrayList<>();
+                for (Future<Class<?>> futuro : executor.invokeAll(renovacoes)) {
+                    resultados.add(futuro.get());
+                }
+
+                assertThat(resultados).filteredOn(RefreshTokenService.RefreshTokenRotacionado.class::equals)
+                        .hasSize(1);
+                assertThat(resultados).filteredOn(RefreshTokenInvalidoException.class::equals)
+                        .hasSize(THREADS - 1);
+                // quem perdeu a corrida dispara a detecção de reutilização: nenhum token segue ativo
+                assertThat(refreshTokenRepository.findAll())
+                        .filteredOn(refreshToken -> refreshToken.getRevogadoEm() == null)
+                        .isEmpty();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Class<?> rotacionar(String token) {
+        try {
+            return refreshTokenService.rotacionar(token).getClass();
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+}
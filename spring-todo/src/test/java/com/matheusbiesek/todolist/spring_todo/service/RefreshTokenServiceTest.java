@@ -0,0 +1,125 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.entity.RefreshToken;
+import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
+import com.matheusbiesek.todolist.spring_todo.exception.auth.RefreshTokenInvalidoException;
+import com.matheusbiesek.todolist.spring_todo.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UsuarioService usuarioService;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void configurarValidade() {
+        ReflectionTestUtils.setField(refreshTokenService, "validadeEmDias", 7L);
+    }
+
+    @Test
+    void deveEmitirTokenPersistindoApenasOHash() {
+        Usuario usuario = criarUsuario();
+        when(usuarioService.getReference(usuario.getUsuarioId())).thenReturn(usuario);
+
+        String token = refreshTokenService.emitir(usuario.getUsuarioId());
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(captor.getValue().getTokenHash()).hasSize(64).isNotEqualTo(token);
+        assertThat(captor.getValue().getExpiraEm()).isAfter(LocalDateTime.now().plusDays(6));
+    }
+
+    @Test
+    void deveRotacionarRefreshTokenValido() {
+        Usuario usuario = criarUsuario();
+        RefreshToken atual = criarRefreshToken(usuario, LocalDateTime.now().plusDays(1));
+        when(refreshTokenRepository.findByTokenHashWithUsuario(anyString())).thenReturn(Optional.of(atual));
+        when(refreshTokenRepository.revogarSeAtivo(anyString(), any(LocalDateTime.class))).thenReturn(1);
+
+        RefreshTokenService.RefreshTokenRotacionado resultado = refreshTokenService.rotacionar("token-atual");
+
+        assertThat(resultado.usuarioId()).isEqualTo(usuario.getUsuarioId());
+        assertThat(resultado.token()).isNotBlank().isNotEqualTo("token-atual");
+        verify(refreshTokenRepository).revogarSeAtivo(anyString(), any(LocalDateTime.class));
+        verify(refreshTokenRepository).save(any(RefreshToken.class));
+    }
+
+    @Test
+    void deveTratarComoReutilizacaoQuandoOutraRotacaoRevogouOTokenAntes() {
+        Usuario usuario = criarUsuario();
+        RefreshToken atual = criarRefreshToken(usuario, LocalDateTime.now().plusDays(1));
+        when(refreshTokenRepository.findByTokenHashWithUsuario(anyString())).thenReturn(Optional.of(atual));
+        when(refreshTokenRepository.revogarSeAtivo(anyString(), any(LocalDateTime.class))).thenReturn(0);
+
+        assertThatThrownBy(() -> refreshTokenService.rotacionar("token-atual"))
+                .isInstanceOf(RefreshTokenInvalidoException.class);
+
+        verify(refreshTokenRepository).revogarTodosDoUsuario(eq(usuario.getUsuarioId()), any(LocalDateTime.class));
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void deveRevogarTodosOsTokensQuandoTokenRotacionadoForReutilizado() {
+        Usuario usuario = criarUsuario();
+        RefreshToken reutilizado = criarRefreshToken(usuario, LocalDateTime.now().plusDays(1));
+        reutilizado.setRevogadoEm(LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenRepository.findByTokenHashWithUsuario(anyString())).thenReturn(Optional.of(reutilizado));
+
+        assertThatThrownBy(() -> refreshTokenService.rotacionar("token-reutilizado"))
+                .isInstanceOf(RefreshTokenInvalidoException.class);
+
+        verify(refreshTokenRepository).revogarTodosDoUsuario(eq(usuario.getUsuarioId()), any(LocalDateTime.class));
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void naoDeveRotacionarRefreshTokenExpirado() {
+        RefreshToken expirado = criarRefreshToken(criarUsuario(), LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenRepository.findByTokenHashWithUsuario(anyString())).thenReturn(Optional.of(expirado));
+
+        assertThatThrownBy(() -> refreshTokenService.rotacionar("token-expirado"))
+                .isInstanceOf(RefreshTokenInvalidoException.class);
+
+        verify(refreshTokenRepository, never()).revogarSeAtivo(anyString(), any(LocalDateTime.class));
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    private Usuario criarUsuario() {
+        Usuario usuario = new Usuario();
+        usuario.setUsuarioId(UUID.randomUUID());
+        usuario.setNomeUsuario("testuser");
+        usuario.setEmail("test@example.com");
+        return usuario;
+    }
+
+    private RefreshToken criarRefreshToken(Usuario usuario, LocalDateTime expiraEm) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setRefreshTokenId(1L);
+        refreshToken.setUsuario(usuario);
+        refreshToken.setTokenHash("hash");
+        refreshToken.setExpiraEm(expiraEm);
+        return refreshToken;
+    }
+}
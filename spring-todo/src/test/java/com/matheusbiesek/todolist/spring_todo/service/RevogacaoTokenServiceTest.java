@@ -0,0 +1,109 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.entity.TokenRevogado;
+import com.matheusbiesek.todolist.spring_todo.repository.RefreshTokenRepository;
+import com.matheusbiesek.todolist.spring_todo.repository.TokenRevogadoRepository;
+import com.matheusbiesek.todolist.spring_todo.service.JwtService.TokenVerificado;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevogacaoTokenServiceTest {
+
+    @Mock
+    private TokenRevogadoRepository tokenRevogadoRepository;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RevogacaoTokenService revogacaoTokenService;
+
+    @BeforeEach
+    void setUp() {
+        revogacaoTokenService = new RevogacaoTokenService(
+                tokenRevogadoRepository, refreshTokenRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void devePersistirERejeitarTokenRevogado() {
+        TokenVerificado token = criarToken(Instant.now().plusSeconds(600));
+
+        revogacaoTokenService.revogar(token);
+
+        ArgumentCaptor<TokenRevogado> captor = ArgumentCaptor.forClass(TokenRevogado.class);
+        verify(tokenRevogadoRepository).save(captor.capture());
+        assertThat(captor.getValue().getJti()).isEqualTo(token.jti());
+        assertThat(revogacaoTokenService.isRevogado(token)).isTrue();
+        assertThat(revogacaoTokenService.isRevogado(criarToken(token.expiraEm()))).isFalse();
+    }
+
+    @Test
+    void deveTratarRevogacaoRepetidaComoJaRevogado() {
+        TokenVerificado token = criarToken(Instant.now().plusSeconds(600));
+        when(tokenRevogadoRepository.save(any(TokenRevogado.class)))
+                .thenThrow(new DataIntegrityViolationException("tokens_revogados_pkey"));
+
+        revogacaoTokenService.revogar(token);
+
+        assertThat(revogacaoTokenService.isRevogado(token)).isTrue();
+    }
+
+    @Test
+    void naoDeveRevogarTokenSemJti() {
+        TokenVerificado token = new TokenVerificado(UUID.randomUUID(), null, Instant.now().plusSeconds(600));
+
+        revogacaoTokenService.revogar(token);
+
+        verifyNoInteractions(tokenRevogadoRepository);
+        assertThat(revogacaoTokenService.isRevogado(token)).isFalse();
+    }
+
+    @Test
+    void deveDescartarBucketsExpirados() {
+        Instant agora = Instant.now();
+        TokenVerificado expirado = criarToken(agora.minusSeconds(120));
+        TokenVerificado valido = criarToken(agora.plusSeconds(120));
+        revogacaoTokenService.revogar(expirado);
+        revogacaoTokenService.revogar(valido);
+
+        revogacaoTokenService.descartarExpirados(agora);
+
+        assertThat(revogacaoTokenService.totalEmMemoria()).isEqualTo(1);
+        assertThat(revogacaoTokenService.isRevogado(valido)).isTrue();
+    }
+
+    @Test
+    void deveCarregarRevogacoesFeitasPorOutrasInstancias() {
+        when(tokenRevogadoRepository.findByExpiraEmAfter(any())).thenReturn(List.of());
+        revogacaoTokenService.carregar();
+
+        TokenVerificado token = criarToken(Instant.now().plusSeconds(600));
+        TokenRevogado tokenRevogado = new TokenRevogado();
+        tokenRevogado.setJti(token.jti());
+        tokenRevogado.setExpiraEm(token.expiraEm());
+        when(tokenRevogadoRepository.findByRevogadoEmGreaterThanEqualAndExpiraEmAfter(any(), any()))
+                .thenReturn(List.of(tokenRevogado));
+
+        revogacaoTokenService.sincronizar();
+
+        assertThat(revogacaoTokenService.isRevogado(token)).isTrue();
+    }
+
+    private TokenVerificado criarToken(Instant expiraEm) {
+        return new TokenVerificado(UUID.randomUUID(), UUID.randomUUID(), expiraEm);
+    }
+}
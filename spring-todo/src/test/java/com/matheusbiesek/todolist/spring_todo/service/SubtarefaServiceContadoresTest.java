@@ -0,0 +1,119 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.entity.Subtarefa;
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SubtarefaServiceContadoresTest extends PersistenciaTestBase {
+
+    private static final int SUBTAREFAS_CONCORRIDAS = 20;
+    private static final int CONCLUSOES_POR_SUBTAREFA = 4;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private SubtarefaService subtarefaService;
+
+    @Autowired
+    private ReparoContadoresSubtarefasService reparoContadoresSubtarefasService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Tarefa tarefa;
+
+    @BeforeEach
+    void setUp() {
+        tarefa = tarefaRepository.save(novaTarefa(criarUsuario(), 2));
+    }
+
+    @Test
+    void deveIniciarContadoresComSubtarefasCriadasEmCascata() {
+        assertThat(contadores(tarefa)).containsExactly(2, 2);
+    }
+
+    @Test
+    void deveManterContadoresEmCadaEscritaDeSubtarefa() {
+        Subtarefa nova = subtarefaService.save(novaSubtarefa(tarefa, StatusTarefa.PENDENTE));
+        assertThat(contadores(tarefa)).containsExactly(3, 3);
+
+        subtarefaService.updateStatus(nova.getSubtarefaId(), StatusTarefa.CONCLUIDA);
+        assertThat(contadores(tarefa)).containsExactly(3, 2);
+
+        Subtarefa reaberta = subtarefaService.findById(nova.getSubtarefaId()).orElseThrow();
+        reaberta.setStatus(StatusTarefa.EM_PROGRESSO);
+        subtarefaService.update(reaberta);
+        assertThat(contadores(tarefa)).containsExactly(3, 3);
+
+        subtarefaService.deleteById(nova.getSubtarefaId());
+        assertThat(contadores(tarefa)).containsExactly(2, 2);
+        assertThat(tarefaRepository.hasSubtarefasPendentes(tarefa)).isTrue();
+    }
+
+    @Test
+    void naoDeveSobrescreverContadoresAoSalvarTarefaCarregadaAntes() {
+        Tarefa carregadaAntes = tarefaRepository.findById(tarefa.getTarefaId()).orElseThrow();
+        subtarefaService.save(novaSubtarefa(tarefa, StatusTarefa.CONCLUIDA));
+
+        carregadaAntes.setTitulo("Título alterado");
+        tarefaRepository.save(carregadaAntes);
+
+        assertThat(contadores(tarefa)).containsExactly(3, 2);
+    }
+
+    @Test
+    void deveDescontarCadaSubtarefaUmaVezSobConclusoesConcorrentes() throws Exception {
+        Tarefa concorrida = tarefaRepository.save(novaTarefa(tarefa.getUsuario(), SUBTAREFAS_CONCORRIDAS));
+        List<Callable<Subtarefa>> conclusoes = new ArrayList<>();
+        for (Subtarefa subtarefa : concorrida.getSubtarefas()) {
+            for (int i = 0; i < CONCLUSOES_POR_SUBTAREFA; i++) {
+                conclusoes.add(() -> subtarefaService.updateStatus(subtarefa.getSubtarefaId(), StatusTarefa.CONCLUIDA));
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<Subtarefa> futuro : executor.invokeAll(conclusoes)) {
+                futuro.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(contadores(concorrida)).containsExactly(SUBTAREFAS_CONCORRIDAS, 0);
+        assertThat(reparoContadoresSubtarefasService.reparar()).isZero();
+    }
+
+    @Test
+    void deveCorrigirSomenteContadoresDivergentes() {
+        Tarefa outra = tarefaRepository.save(novaTarefa(tarefa.getUsuario(), 1));
+        jdbcTemplate.update("UPDATE app.tarefas SET subtarefas_total = 7, subtarefas_pendentes = 0 "
+                + "WHERE tarefa_id = ?", tarefa.getTarefaId());
+
+        int corrigidas = reparoContadoresSubtarefasService.reparar();
+
+        assertThat(corrigidas).isEqualTo(1);
+        assertThat(contadores(tarefa)).containsExactly(2, 2);
+        assertThat(contadores(outra)).containsExactly(1, 1);
+        assertThat(reparoContadoresSubtarefasService.reparar()).isZero();
+    }
+
+    private List<Integer> contadores(Tarefa alvo) {
+        return jdbcTemplate.queryForObject(
+                "SELECT subtarefas_total, subtarefas_pendentes FROM app.tarefas WHERE tarefa_id = ?",
+                (rs, linha) -> List.of(rs.getInt(1), rs.getInt(2)), alvo.getTarefaId());
+    }
+
+}
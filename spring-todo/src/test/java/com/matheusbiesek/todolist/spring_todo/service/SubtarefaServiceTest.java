@@ -6,6 +6,7 @@ import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
 import com.matheusbiesek.todolist.spring_todo.enums.Prioridade;
 import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
 import com.matheusbiesek.todolist.spring_todo.repository.SubtarefaRepository;
+import com.matheusbiesek.todolist.spring_todo.repository.TarefaRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -27,6 +28,9 @@ class SubtarefaServiceTest {
     @Mock
     private SubtarefaRepository subtarefaRepository;
 
+    @Mock
+    private TarefaRepository tarefaRepository;
+
     @InjectMocks
     private SubtarefaService subtarefaService;
 
@@ -41,6 +45,7 @@ class SubtarefaServiceTest {
 
         assertThat(resultado).isEqualTo(subtarefa);
         verify(subtarefaRepository).save(subtarefa);
+        verify(tarefaRepository).ajustarContadoresSubtarefas(1L, 1, 1);
     }
 
     @Test
@@ -61,14 +66,41 @@ class SubtarefaServiceTest {
         Subtarefa subtarefa = criarSubtarefa(criarTarefa());
         subtarefa.setSubtarefaId(1L);
         
-        when(subtarefaRepository.findById(1L)).thenReturn(Optional.of(subtarefa));
+        when(subtarefaRepository.findByIdParaAtualizacao(1L)).thenReturn(Optional.of(subtarefa));
         when(subtarefaRepository.save(subtarefa)).thenReturn(subtarefa);
 
         Subtarefa resultado = subtarefaService.updateStatus(1L, StatusTarefa.CONCLUIDA);
 
         assertThat(resultado.getStatus()).isEqualTo(StatusTarefa.CONCLUIDA);
-        verify(subtarefaRepository).findById(1L);
+        verify(subtarefaRepository).findByIdParaAtualizacao(1L);
         verify(subtarefaRepository).save(subtarefa);
+        verify(tarefaRepository).ajustarContadoresSubtarefas(1L, 0, -1);
+    }
+
+    @Test
+    void naoDeveAjustarContadoresQuandoStatusContinuaPendente() {
+        Subtarefa subtarefa = criarSubtarefa(criarTarefa());
+        subtarefa.setSubtarefaId(1L);
+
+        when(subtarefaRepository.findByIdParaAtualizacao(1L)).thenReturn(Optional.of(subtarefa));
+        when(subtarefaRepository.save(subtarefa)).thenReturn(subtarefa);
+
+        subtarefaService.updateStatus(1L, StatusTarefa.EM_PROGRESSO);
+
+        verifyNoInteractions(tarefaRepository);
+    }
+
+    @Test
+    void deveDescontarSubtarefaExcluidaDosContadores() {
+        Subtarefa subtarefa = criarSubtarefa(criarTarefa());
+        subtarefa.setSubtarefaId(1L);
+
+        when(subtarefaRepository.findByIdParaAtualizacao(1L)).thenReturn(Optional.of(subtarefa));
+
+        subtarefaService.deleteById(1L);
+
+        verify(subtarefaRepository).delete(subtarefa);
+        verify(tarefaRepository).ajustarContadoresSubtarefas(1L, -1, -1);
     }
 
     private Tarefa criarTarefa() {
@@ -0,0 +1,152 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.entity.Subtarefa;
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import com.matheusbiesek.todolist.spring_todo.repository.SubtarefaRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TarefaCacheSegundoNivelTest extends PersistenciaTestBase {
+
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Autowired
+    private SubtarefaService subtarefaService;
+
+    @Autowired
+    private SubtarefaRepository subtarefaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void deveServirTarefaESubtarefasDoCacheNaSegundaBusca() {
+        Tarefa tarefa = criarTarefaComSubtarefas(3);
+
+        tarefaService.findByIdAndUsuarioId(tarefa.getTarefaId(), tarefa.getUsuario().getUsuarioId());
+        statistics.clear();
+
+        Optional<Tarefa> resultado = tarefaService.findByIdAndUsuarioId(
+                tarefa.getTarefaId(), tarefa.getUsuario().getUsuarioId());
+
+        assertThat(resultado).isPresent();
+        assertThat(resultado.get().getSubtarefas()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void naoDeveRetornarTarefaEmCacheParaOutroUsuario() {
+        Tarefa tarefa = criarTarefaComSubtarefas(1);
+        tarefaService.findByIdAndUsuarioId(tarefa.getTarefaId(), tarefa.getUsuario().getUsuarioId());
+
+        Optional<Tarefa> resultado = tarefaService.findByIdAndUsuarioId(tarefa.getTarefaId(), UUID.randomUUID());
+
+        assertThat(resultado).isEmpty();
+    }
+
+    @Test
+    void deveInvalidarColecaoEmCacheAoSalvarSubtarefa() {
+        Tarefa tarefa = criarTarefaComSubtarefas(1);
+        tarefaService.findByIdAndUsuarioId(tarefa.getTarefaId(), tarefa.getUsuario().getUsuarioId());
+
+        Subtarefa nova = novaSubtarefa(tarefa, StatusTarefa.PENDENTE);
+        subtarefaRepository.save(nova);
+
+        Optional<Tarefa> resultado = tarefaService.findByIdAndUsuarioId(
+                tarefa.getTarefaId(), tarefa.getUsuario().getUsuarioId());
+
+        assertThat(resultado).isPresent();
+        assertThat(resultado.get().getSubtarefas()).hasSize(2);
+    }
+
+    @Test
+    void deveManterOutrasTarefasEmCacheAoEscreverSubtarefa() {
+        Tarefa alterada = criarTarefaComSubtarefas(1);
+        Tarefa outra = criarTarefaComSubtarefas(2);
+        UUID usuarioAlterada = alterada.getUsuario().getUsuarioId();
+        UUID usuarioOutra = outra.getUsuario().getUsuarioId();
+        tarefaService.findByIdAndUsuarioId(alterada.getTarefaId(), usuarioAlterada);
+        tarefaService.findByIdAndUsuarioId(outra.getTarefaId(), usuarioOutra);
+
+        Subtarefa nova = novaSubtarefa(alterada, StatusTarefa.PENDENTE);
+        subtarefaService.save(nova);
+        statistics.clear();
+
+        Optional<Tarefa> naoAfetada = tarefaService.findByIdAndUsuarioId(outra.getTarefaId(), usuarioOutra);
+
+        assertThat(naoAfetada).isPresent();
+        assertThat(naoAfetada.get().getSubtarefas()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        Optional<Tarefa> afetada = tarefaService.findByIdAndUsuarioId(alterada.getTarefaId(), usuarioAlterada);
+
+        assertThat(afetada).isPresent();
+        assertThat(afetada.get().getSubtarefasTotal()).isEqualTo(2);
+        assertThat(afetada.get().getSubtarefasPendentes()).isEqualTo(2);
+        assertThat(afetada.get().getSubtarefas()).hasSize(2);
+    }
+
+    @Test
+    void deveRemoverDoCacheApenasAsSubtarefasDaTarefaAoConcluirTodas() {
+        Tarefa alterada = criarTarefaComSubtarefas(2);
+        Tarefa outra = criarTarefaComSubtarefas(2);
+        UUID usuarioAlterada = alterada.getUsuario().getUsuarioId();
+        UUID usuarioOutra = outra.getUsuario().getUsuarioId();
+        tarefaService.findByIdAndUsuarioId(alterada.getTarefaId(), usuarioAlterada);
+        tarefaService.findByIdAndUsuarioId(outra.getTarefaId(), usuarioOutra);
+
+        assertThat(subtarefaService.concluirTodas(alterada.getTarefaId())).isEqualTo(2);
+        statistics.clear();
+
+        Optional<Tarefa> naoAfetada = tarefaService.findByIdAndUsuarioId(outra.getTarefaId(), usuarioOutra);
+
+        assertThat(naoAfetada).isPresent();
+        assertThat(naoAfetada.get().getSubtarefas()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        Optional<Tarefa> afetada = tarefaService.findByIdAndUsuarioId(alterada.getTarefaId(), usuarioAlterada);
+
+        assertThat(afetada).isPresent();
+        assertThat(afetada.get().getSubtarefasPendentes()).isZero();
+        assertThat(afetada.get().getSubtarefas())
+                .extracting(Subtarefa::getStatus)
+                .containsOnly(StatusTarefa.CONCLUIDA);
+    }
+
+    @Test
+    void deveRemoverTarefaDoCacheAoTransicionarStatus() {
+        Tarefa tarefa = criarTarefaComSubtarefas(0);
+        UUID usuarioId = tarefa.getUsuario().getUsuarioId();
+        tarefaService.findByIdAndUsuarioId(tarefa.getTarefaId(), usuarioId);
+
+        tarefaService.updateStatus(tarefa.getTarefaId(), usuarioId, StatusTarefa.CONCLUIDA);
+
+        Optional<Tarefa> resultado = tarefaService.findByIdAndUsuarioId(tarefa.getTarefaId(), usuarioId);
+
+        assertThat(resultado).isPresent();
+        assertThat(resultado.get().getStatus()).isEqualTo(StatusTarefa.CONCLUIDA);
+    }
+
+    private Tarefa criarTarefaComSubtarefas(int quantidade) {
+        return tarefaRepository.save(novaTarefa(criarUsuario(), quantidade));
+    }
+}
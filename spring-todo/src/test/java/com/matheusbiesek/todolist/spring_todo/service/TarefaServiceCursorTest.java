@@ -0,0 +1,138 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaFiltro;
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaResponse;
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import com.matheusbiesek.todolist.spring_todo.util.CursorTarefa;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TarefaServiceCursorTest extends PersistenciaTestBase {
+
+    private static final int TAREFAS = 25;
+    private static final int TAMANHO_PAGINA = 10;
+
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Usuario usuario;
+    private List<Tarefa> tarefas;
+
+    @BeforeEach
+    void setUp() {
+        usuario = criarUsuario();
+        Usuario outro = criarUsuario();
+        tarefas = new ArrayList<>();
+        for (int i = 0; i < TAREFAS; i++) {
+            tarefas.add(criarTarefa(usuario, i, i % 2 == 0 ? StatusTarefa.PENDENTE : StatusTarefa.CONCLUIDA));
+        }
+        tarefas = tarefaRepository.saveAll(tarefas);
+        tarefaRepository.save(criarTarefa(outro, 0, StatusTarefa.PENDENTE));
+
+        // Metade das tarefas com o mesmo criado_em: o tarefa_id precisa desempatar sem pular nem repetir linhas
+        LocalDateTime instante = LocalDateTime.of(2024, 1, 15, 10, 30);
+        jdbcTemplate.update("UPDATE app.tarefas SET criado_em = ? WHERE usuario_id = ? AND MOD(tarefa_id, 2) = 0",
+                instante, usuario.getUsuarioId());
+        jdbcTemplate.update("UPDATE app.tarefas SET criado_em = DATEADD('MINUTE', tarefa_id, CAST(? AS TIMESTAMP)) " +
+                "WHERE usuario_id = ? AND MOD(tarefa_id, 2) = 1", instante, usuario.getUsuarioId());
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void devePercorrerTodasAsTarefasSemRepetirNemPular() {
+        List<Long> ids = new ArrayList<>();
+        CursorTarefa cursor = null;
+        int paginas = 0;
+        do {
+            Slice<TarefaResponse> pagina = tarefaService.findByUsuarioIdWithFiltersAposCursor(
+                    usuario.getUsuarioId(), null, cursor, TAMANHO_PAGINA);
+            pagina.forEach(tarefa -> ids.add(tarefa.getTarefaId()));
+            cursor = pagina.hasNext() ? CursorTarefa.de(pagina.getContent().get(pagina.getNumberOfElements() - 1)) : null;
+            paginas++;
+        } while (cursor != null);
+
+        List<Long> esperados = tarefaRepository.findAll().stream()
+                .filter(tarefa -> tarefa.getUsuario().getUsuarioId().equals(usuario.getUsuarioId()))
+                .sorted(Comparator.comparing(Tarefa::getCriadoEm).thenComparing(Tarefa::getTarefaId).reversed())
+                .map(Tarefa::getTarefaId)
+                .toList();
+        assertThat(paginas).isEqualTo(3);
+        assertThat(ids).containsExactlyElementsOf(esperados);
+    }
+
+    @Test
+    void deveBuscarPaginaSeguinteSemCountNemOffset() {
+        Slice<TarefaResponse> primeira = tarefaService.findByUsuarioIdWithFiltersAposCursor(
+                usuario.getUsuarioId(), null, null, TAMANHO_PAGINA);
+        statistics.clear();
+
+        Slice<TarefaResponse> segunda = tarefaService.findByUsuarioIdWithFiltersAposCursor(usuario.getUsuarioId(), null,
+                CursorTarefa.de(primeira.getContent().get(TAMANHO_PAGINA - 1)), TAMANHO_PAGINA);
+
+        assertThat(segunda.getContent()).hasSize(TAMANHO_PAGINA)
+                .allSatisfy(tarefa -> assertThat(tarefa.getSubtarefas()).hasSize(2));
+        assertThat(segunda.hasNext()).isTrue();
+        // página + subtarefas de toda a página
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void deveAplicarFiltrosNaPaginacaoPorCursor() {
+        Slice<TarefaResponse> primeira = tarefaService.findByUsuarioIdWithFiltersAposCursor(
+                usuario.getUsuarioId(), TarefaFiltro.de(StatusTarefa.PENDENTE, null, null), null, TAMANHO_PAGINA);
+        Slice<TarefaResponse> segunda = tarefaService.findByUsuarioIdWithFiltersAposCursor(usuario.getUsuarioId(),
+                TarefaFiltro.de(StatusTarefa.PENDENTE, null, null), CursorTarefa.de(primeira.getContent().get(TAMANHO_PAGINA - 1)),
+                TAMANHO_PAGINA);
+
+        assertThat(primeira.getContent()).extracting(TarefaResponse::getStatus).containsOnly(StatusTarefa.PENDENTE);
+        assertThat(segunda.getContent()).hasSize(3).extracting(TarefaResponse::getStatus).containsOnly(StatusTarefa.PENDENTE);
+        assertThat(segunda.hasNext()).isFalse();
+    }
+
+    @Test
+    void devePaginarTarefasVencidasPorCursor() {
+        Slice<TarefaResponse> primeira = tarefaService.findTarefasVencidasByUsuarioIdAposCursor(
+                usuario.getUsuarioId(), null, 20);
+        Slice<TarefaResponse> segunda = tarefaService.findTarefasVencidasByUsuarioIdAposCursor(usuario.getUsuarioId(),
+                CursorTarefa.de(primeira.getContent().get(19)), 20);
+
+        assertThat(primeira.hasNext()).isTrue();
+        assertThat(segunda.getContent()).hasSize(TAREFAS - 20);
+        assertThat(segunda.hasNext()).isFalse();
+    }
+
+    private Tarefa criarTarefa(Usuario dono, int indice, StatusTarefa status) {
+        Tarefa tarefa = novaTarefa(dono, 2);
+        tarefa.setTitulo("Tarefa " + indice);
+        tarefa.setStatus(status);
+        tarefa.setDataVencimento(LocalDate.now().minusDays(1));
+        return tarefa;
+    }
+}
@@ -0,0 +1,175 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.controller.ContadorSql;
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaFiltro;
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaResponse;
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
+import com.matheusbiesek.todolist.spring_todo.enums.Prioridade;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import com.matheusbiesek.todolist.spring_todo.exception.tarefa.CampoInvalidoException;
+import com.matheusbiesek.todolist.spring_todo.exception.tarefa.OrdenacaoInvalidaException;
+import com.matheusbiesek.todolist.spring_todo.util.CamposTarefa;
+import com.matheusbiesek.todolist.spring_todo.util.OrdenacaoTarefa;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TarefaServiceFiltroTest extends PersistenciaTestBase {
+
+    private static final LocalDate HOJE = LocalDate.now();
+
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Autowired
+    private ContadorSql contadorSql;
+
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        usuario = criarUsuario();
+        List<Tarefa> tarefas = new ArrayList<>();
+        StatusTarefa[] status = StatusTarefa.values();
+        Prioridade[] prioridades = Prioridade.values();
+        for (int i = 0; i < 12; i++) {
+            tarefas.add(criarTarefa(i, status[i % status.length], prioridades[i % prioridades.length],
+                    HOJE.plusDays(i)));
+        }
+        tarefaRepository.saveAll(tarefas);
+    }
+
+    @Test
+    void deveFiltrarPorVariosStatusComIn() {
+        TarefaFiltro filtro = new TarefaFiltro();
+        filtro.setStatus(List.of(StatusTarefa.PENDENTE, StatusTarefa.CONCLUIDA));
+
+        Page<TarefaResponse> pagina = tarefaService.findByUsuarioIdWithFilters(usuario.getUsuarioId(), filtro, pagina());
+
+        assertThat(pagina.getContent()).isNotEmpty()
+                .extracting(TarefaResponse::getStatus)
+                .containsOnly(StatusTarefa.PENDENTE, StatusTarefa.CONCLUIDA);
+        long esperado = tarefaRepository.findAll().stream()
+                .filter(t -> filtro.getStatus().contains(t.getStatus()))
+                .count();
+        assertThat(pagina.getTotalElements()).isEqualTo(esperado);
+    }
+
+    @Test
+    void deveFiltrarPorIntervaloDeVencimentoInclusivo() {
+        TarefaFiltro filtro = new TarefaFiltro();
+        filtro.setVencimentoDe(HOJE.plusDays(3));
+        filtro.setVencimentoAte(HOJE.plusDays(5));
+
+        Page<TarefaResponse> pagina = tarefaService.findByUsuarioIdWithFilters(usuario.getUsuarioId(), filtro, pagina());
+
+        assertThat(pagina.getContent()).extracting(TarefaResponse::getDataVencimento)
+                .containsExactlyInAnyOrder(HOJE.plusDays(3), HOJE.plusDays(4), HOJE.plusDays(5));
+    }
+
+    @Test
+    void deveCombinarStatusPrioridadeEVencimento() {
+        TarefaFiltro filtro = new TarefaFiltro(List.of(StatusTarefa.PENDENTE), List.of(Prioridade.values()),
+                null, HOJE, null);
+
+        Page<TarefaResponse> pagina = tarefaService.findByUsuarioIdWithFilters(usuario.getUsuarioId(), filtro, pagina());
+
+        assertThat(pagina.getContent()).isNotEmpty()
+                .allSatisfy(tarefa -> {
+                    assertThat(tarefa.getStatus()).isEqualTo(StatusTarefa.PENDENTE);
+                    assertThat(tarefa.getDataVencimento()).isAfterOrEqualTo(HOJE);
+                });
+    }
+
+    @Test
+    void deveGerarMesmoSqlParaMesmosFiltrosSemPredicadosNulos() throws Exception {
+        UUID usuarioId = usuario.getUsuarioId();
+        ContadorSql.Medicao pendentes = contadorSql.medir(() -> tarefaService.findByUsuarioIdWithFilters(
+                usuarioId, TarefaFiltro.de(StatusTarefa.PENDENTE, null, null), pagina()));
+        ContadorSql.Medicao concluidas = contadorSql.medir(() -> tarefaService.findByUsuarioIdWithFilters(
+                usuarioId, TarefaFiltro.de(StatusTarefa.CONCLUIDA, null, null), pagina()));
+
+        // mesmos filtros presentes, valores diferentes: o texto (e o prepared statement) é o mesmo
+        assertThat(concluidas.sql()).isEqualTo(pendentes.sql());
+        String where = pendentes.sql().get(0).toLowerCase().split(" where ")[1];
+        assertThat(where)
+                .doesNotContain("is null")
+                .doesNotContain("prioridade")
+                .doesNotContain("data_vencimento");
+    }
+
+    @Test
+    void deveRecusarOrdenacaoForaDaListaPermitida() {
+        assertThatThrownBy(() -> OrdenacaoTarefa.de("usuario.senhaHash", "asc"))
+                .isInstanceOf(OrdenacaoInvalidaException.class);
+        assertThat(OrdenacaoTarefa.de("titulo", "desc").getOrderFor("tarefaId")).isNotNull();
+    }
+
+    @Test
+    void deveListarVisaoResumidaSemLerDescricaoNemSubtarefas() throws Exception {
+        Set<String> campos = CamposTarefa.de(null, "summary");
+        List<Page<Map<String, Object>>> resultado = new ArrayList<>();
+
+        ContadorSql.Medicao medicao = contadorSql.medir(() -> resultado.add(
+                tarefaService.findCamposByUsuarioIdWithFilters(usuario.getUsuarioId(), null, campos, pagina())));
+
+        assertThat(resultado.get(0).getContent()).hasSize(12)
+                .allSatisfy(tarefa -> assertThat(tarefa).containsOnlyKeys(campos));
+        // página parcial: sem COUNT; subtarefas não pedidas: sem a segunda consulta
+        assertThat(medicao.consultas()).isEqualTo(1);
+        assertThat(medicao.sql().get(0).toLowerCase().split(" from ")[0])
+                .doesNotContain("descricao")
+                .doesNotContain("criado_em");
+        assertThat(medicao.entidades()).isZero();
+    }
+
+    @Test
+    void deveListarSomenteCamposPedidos() {
+        Set<String> campos = CamposTarefa.de("status, subtarefas", "summary");
+
+        Page<Map<String, Object>> pagina = tarefaService.findCamposByUsuarioIdWithFilters(usuario.getUsuarioId(),
+                null, campos, pagina());
+
+        assertThat(campos).containsExactly(CamposTarefa.TAREFA_ID, "status", CamposTarefa.SUBTAREFAS);
+        assertThat(pagina.getContent()).allSatisfy(tarefa -> {
+            assertThat(tarefa.keySet()).containsExactlyElementsOf(campos);
+            assertThat(tarefa.get(CamposTarefa.SUBTAREFAS)).isEqualTo(List.of());
+        });
+    }
+
+    @Test
+    void deveRecusarCampoOuVisaoDesconhecidos() {
+        assertThatThrownBy(() -> CamposTarefa.de("titulo,usuario", null))
+                .isInstanceOf(CampoInvalidoException.class)
+                .hasMessageContaining("usuario");
+        assertThatThrownBy(() -> CamposTarefa.de(null, "compacta"))
+                .isInstanceOf(CampoInvalidoException.class);
+        assertThat(CamposTarefa.de(" ", "FULL")).isNull();
+    }
+
+    private Pageable pagina() {
+        return PageRequest.of(0, 50, OrdenacaoTarefa.de("criadoEm", "desc"));
+    }
+
+    private Tarefa criarTarefa(int indice, StatusTarefa status, Prioridade prioridade, LocalDate vencimento) {
+        Tarefa tarefa = novaTarefa(usuario, 0);
+        tarefa.setTitulo("Tarefa " + indice);
+        tarefa.setStatus(status);
+        tarefa.setPrioridade(prioridade);
+        tarefa.setDataVencimento(vencimento);
+        return tarefa;
+    }
+}
@@ -0,0 +1,102 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaResponse;
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TarefaServiceListagemTest extends PersistenciaTestBase {
+
+    private static final int TAREFAS = 60;
+    private static final int TAMANHO_PAGINA = 50;
+
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Autowired
+    private SubtarefaService subtarefaService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        usuario = criarUsuario();
+        List<Tarefa> tarefas = new ArrayList<>();
+        for (int i = 0; i < TAREFAS; i++) {
+            tarefas.add(criarTarefa(usuario, i));
+        }
+        tarefaRepository.saveAll(tarefas);
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void deveListarPaginaComSubtarefasEmUmaConsultaExtra() {
+        Page<TarefaResponse> pagina = tarefaService.findByUsuarioIdWithFilters(usuario.getUsuarioId(), null,
+                PageRequest.of(0, TAMANHO_PAGINA, Sort.by("criadoEm").descending()));
+
+        assertThat(pagina.getContent()).hasSize(TAMANHO_PAGINA)
+                .allSatisfy(tarefa -> assertThat(tarefa.getSubtarefas()).hasSize(2));
+        // página + count + subtarefas de toda a página, tudo projetado em DTOs
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void deveListarTarefasVencidasComSubtarefasEmUmaConsultaExtra() {
+        Page<TarefaResponse> pagina = tarefaService.findTarefasVencidasByUsuarioId(usuario.getUsuarioId(),
+                PageRequest.of(0, TAMANHO_PAGINA, Sort.by("criadoEm").descending()));
+
+        assertThat(pagina.getContent()).hasSize(TAMANHO_PAGINA)
+                .allSatisfy(tarefa -> assertThat(tarefa.getSubtarefas()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void deveLerSubtarefasPendentesDoContadorDaTarefa() {
+        Long tarefaId = jdbcTemplate.queryForObject("SELECT MIN(tarefa_id) FROM app.subtarefas", Long.class);
+        Long subtarefaId = jdbcTemplate.queryForObject(
+                "SELECT MIN(subtarefa_id) FROM app.subtarefas WHERE tarefa_id = ?", Long.class, tarefaId);
+        subtarefaService.updateStatus(subtarefaId, StatusTarefa.CONCLUIDA);
+
+        Page<TarefaResponse> pagina = tarefaService.findByUsuarioIdWithFilters(usuario.getUsuarioId(), null,
+                PageRequest.of(0, TAREFAS, Sort.by("tarefaId")));
+
+        assertThat(pagina.getContent()).allSatisfy(resposta -> assertThat(resposta.getSubtarefasPendentes())
+                .isEqualTo(resposta.getTarefaId().equals(tarefaId) ? 1 : 2));
+    }
+
+    private Tarefa criarTarefa(Usuario dono, int indice) {
+        Tarefa tarefa = novaTarefa(dono, 2);
+        tarefa.setTitulo("Tarefa " + indice);
+        tarefa.setDataVencimento(LocalDate.now().minusDays(1));
+        return tarefa;
+    }
+}
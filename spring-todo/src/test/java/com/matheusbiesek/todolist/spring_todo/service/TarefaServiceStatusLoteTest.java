@@ -0,0 +1,96 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.controller.ContadorSql;
+import com.matheusbiesek.todolist.spring_todo.dto.tarefa.TarefaFiltro;
+import com.matheusbiesek.todolist.spring_todo.entity.Tarefa;
+import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
+import com.matheusbiesek.todolist.spring_todo.enums.Prioridade;
+import com.matheusbiesek.todolist.spring_todo.enums.StatusTarefa;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TarefaServiceStatusLoteTest extends PersistenciaTestBase {
+
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Autowired
+    private SubtarefaService subtarefaService;
+
+    @Autowired
+    private ContadorSql contadorSql;
+
+    private Usuario usuario;
+    private Tarefa livre;
+    private Tarefa comPendente;
+    private Tarefa alta;
+    private Tarefa deOutroUsuario;
+
+    @BeforeEach
+    void setUp() {
+        usuario = criarUsuario();
+        livre = tarefaRepository.save(criarTarefa(usuario, Prioridade.BAIXA, 0));
+        comPendente = tarefaRepository.save(criarTarefa(usuario, Prioridade.BAIXA, 2));
+        alta = tarefaRepository.save(criarTarefa(usuario, Prioridade.ALTA, 0));
+        deOutroUsuario = tarefaRepository.save(criarTarefa(criarUsuario(), Prioridade.BAIXA, 0));
+    }
+
+    @Test
+    void deveConcluirEmUmUpdateSomenteTarefasDoUsuarioSemSubtarefasPendentes() throws Exception {
+        List<Long> ids = List.of(livre.getTarefaId(), comPendente.getTarefaId(), deOutroUsuario.getTarefaId());
+        int[] atualizadas = new int[1];
+
+        ContadorSql.Medicao medicao = contadorSql.medir(() -> atualizadas[0] =
+                tarefaService.updateStatusEmLote(usuario.getUsuarioId(), ids, null, StatusTarefa.CONCLUIDA));
+
+        assertThat(medicao.consultas()).isEqualTo(1);
+        assertThat(atualizadas[0]).isEqualTo(1);
+        assertThat(status(livre)).isEqualTo(StatusTarefa.CONCLUIDA);
+        assertThat(status(comPendente)).isEqualTo(StatusTarefa.PENDENTE);
+        assertThat(status(alta)).isEqualTo(StatusTarefa.PENDENTE);
+        assertThat(status(deOutroUsuario)).isEqualTo(StatusTarefa.PENDENTE);
+    }
+
+    @Test
+    void deveAplicarStatusAsTarefasDoFiltro() {
+        TarefaFiltro filtro = new TarefaFiltro();
+        filtro.setPrioridade(List.of(Prioridade.ALTA));
+
+        int atualizadas = tarefaService.updateStatusEmLote(usuario.getUsuarioId(), null, filtro,
+                StatusTarefa.EM_PROGRESSO);
+
+        assertThat(atualizadas).isEqualTo(1);
+        assertThat(status(alta)).isEqualTo(StatusTarefa.EM_PROGRESSO);
+        assertThat(status(livre)).isEqualTo(StatusTarefa.PENDENTE);
+        // já no status pedido: não conta como alterada
+        assertThat(tarefaService.updateStatusEmLote(usuario.getUsuarioId(), null, filtro,
+                StatusTarefa.EM_PROGRESSO)).isZero();
+    }
+
+    @Test
+    void deveConcluirTarefaDepoisDeConcluirTodasAsSubtarefas() {
+        int concluidas = subtarefaService.concluirTodas(comPendente.getTarefaId());
+
+        assertThat(concluidas).isEqualTo(2);
+        assertThat(tarefaRepository.findById(comPendente.getTarefaId()).orElseThrow().getSubtarefasPendentes())
+                .isZero();
+        assertThat(tarefaService.updateStatusEmLote(usuario.getUsuarioId(), List.of(comPendente.getTarefaId()),
+                null, StatusTarefa.CONCLUIDA)).isEqualTo(1);
+        assertThat(subtarefaService.concluirTodas(comPendente.getTarefaId())).isZero();
+    }
+
+    private StatusTarefa status(Tarefa tarefa) {
+        return tarefaRepository.findById(tarefa.getTarefaId()).orElseThrow().getStatus();
+    }
+
+    private Tarefa criarTarefa(Usuario dono, Prioridade prioridade, int subtarefasPendentes) {
+        Tarefa tarefa = novaTarefa(dono, subtarefasPendentes);
+        tarefa.setPrioridade(prioridade);
+        return tarefa;
+    }
+}
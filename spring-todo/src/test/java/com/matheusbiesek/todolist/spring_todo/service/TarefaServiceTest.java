@@ -27,6 +27,9 @@ class TarefaServiceTest {
     @Mock
     private TarefaRepository tarefaRepository;
 
+    @Mock
+    private EstatisticasTarefaService estatisticasTarefaService;
+
     @InjectMocks
     private TarefaService tarefaService;
 
@@ -41,6 +44,20 @@ class TarefaServiceTest {
 
         assertThat(resultado).isEqualTo(tarefa);
         verify(tarefaRepository).save(tarefa);
+        verify(estatisticasTarefaService).invalidar(usuario.getUsuarioId());
+    }
+
+    @Test
+    void deveSalvarTarefasEmLoteInvalidandoEstatisticasUmaVez() {
+        Usuario usuario = criarUsuario();
+        List<Tarefa> tarefas = Arrays.asList(criarTarefa(usuario), criarTarefa(usuario));
+
+        when(tarefaRepository.saveAll(tarefas)).thenReturn(tarefas);
+
+        List<Tarefa> resultado = tarefaService.saveAll(tarefas);
+
+        assertThat(resultado).containsExactlyElementsOf(tarefas);
+        verify(estatisticasTarefaService, times(1)).invalidar(usuario.getUsuarioId());
     }
 
     @Test
@@ -57,17 +74,139 @@ class TarefaServiceTest {
     }
 
     @Test
-    void naoDevePermitirConcluirTarefaComSubtarefasPendentes() {
+    void deveBuscarTarefaPorIdEUsuarioIdSemCarregarUsuario() {
+        Usuario usuario = criarUsuario();
+        Tarefa tarefa = criarTarefa(usuario);
+        tarefa.setTarefaId(1L);
+
+        when(tarefaRepository.findById(1L)).thenReturn(Optional.of(tarefa));
+
+        Optional<Tarefa> resultado = tarefaService.findByIdAndUsuarioId(1L, usuario.getUsuarioId());
+
+        assertThat(resultado).contains(tarefa);
+        verify(tarefaRepository).findById(1L);
+    }
+
+    @Test
+    void naoDeveRetornarTarefaDeOutroUsuario() {
         Tarefa tarefa = criarTarefa(criarUsuario());
         tarefa.setTarefaId(1L);
-        
+
         when(tarefaRepository.findById(1L)).thenReturn(Optional.of(tarefa));
-        when(tarefaRepository.hasSubtarefasPendentes(tarefa)).thenReturn(true);
 
-        assertThatThrownBy(() -> tarefaService.updateStatus(1L, StatusTarefa.CONCLUIDA))
+        Optional<Tarefa> resultado = tarefaService.findByIdAndUsuarioId(1L, UUID.randomUUID());
+
+        assertThat(resultado).isEmpty();
+    }
+
+    @Test
+    void deveAtualizarTarefaGerenciadaSemExistsNemSave() {
+        Usuario usuario = criarUsuario();
+        Tarefa tarefa = criarTarefa(usuario);
+        tarefa.setTarefaId(1L);
+
+        when(tarefaRepository.findById(1L)).thenReturn(Optional.of(tarefa));
+
+        Optional<Tarefa> resultado = tarefaService.update(1L, usuario.getUsuarioId(),
+                t -> t.setTitulo("Editada"));
+
+        assertThat(resultado).contains(tarefa);
+        assertThat(tarefa.getTitulo()).isEqualTo("Editada");
+        verify(tarefaRepository, never()).existsById(any());
+        verify(tarefaRepository, never()).save(any());
+        verify(estatisticasTarefaService).invalidar(usuario.getUsuarioId());
+    }
+
+    @Test
+    void naoDeveAlterarTarefaDeOutroUsuario() {
+        Tarefa tarefa = criarTarefa(criarUsuario());
+        tarefa.setTarefaId(1L);
+
+        when(tarefaRepository.findById(1L)).thenReturn(Optional.of(tarefa));
+
+        Optional<Tarefa> resultado = tarefaService.update(1L, UUID.randomUUID(), t -> t.setTitulo("Editada"));
+
+        assertThat(resultado).isEmpty();
+        assertThat(tarefa.getTitulo()).isEqualTo("Tarefa Teste");
+        verifyNoInteractions(estatisticasTarefaService);
+    }
+
+    @Test
+    void deveTrocarStatusDaAtualizacaoPeloUpdateCondicional() {
+        Usuario usuario = criarUsuario();
+        Tarefa tarefa = criarTarefa(usuario);
+        tarefa.setTarefaId(1L);
+
+        when(tarefaRepository.findById(1L)).thenReturn(Optional.of(tarefa));
+        when(tarefaRepository.transicionarStatus(tarefa, StatusTarefa.EM_PROGRESSO)).thenReturn(true);
+
+        Optional<Tarefa> resultado = tarefaService.update(1L, usuario.getUsuarioId(), t -> {
+            t.setTitulo("Editada");
+            t.setStatus(StatusTarefa.EM_PROGRESSO);
+        });
+
+        assertThat(resultado).contains(tarefa);
+        verify(tarefaRepository).transicionarStatus(tarefa, StatusTarefa.EM_PROGRESSO);
+        verify(estatisticasTarefaService).invalidar(usuario.getUsuarioId());
+    }
+
+    @Test
+    void naoDeveConcluirTarefaComSubtarefasPendentesPelaAtualizacao() {
+        Usuario usuario = criarUsuario();
+        Tarefa tarefa = criarTarefa(usuario);
+        tarefa.setTarefaId(1L);
+
+        when(tarefaRepository.findById(1L)).thenReturn(Optional.of(tarefa));
+        when(tarefaRepository.transicionarStatus(tarefa, StatusTarefa.CONCLUIDA)).thenReturn(false);
+
+        assertThatThrownBy(() -> tarefaService.update(1L, usuario.getUsuarioId(),
+                t -> t.setStatus(StatusTarefa.CONCLUIDA)))
                 .isInstanceOf(TarefaComSubtarefasPendentesException.class);
 
+        assertThat(tarefa.getStatus()).isEqualTo(StatusTarefa.PENDENTE);
+        verifyNoInteractions(estatisticasTarefaService);
+    }
+
+    @Test
+    void deveAtualizarStatusComUpdateCondicional() {
+        Usuario usuario = criarUsuario();
+        Tarefa tarefa = criarTarefa(usuario);
+        tarefa.setTarefaId(1L);
+        tarefa.setStatus(StatusTarefa.EM_PROGRESSO);
+
+        when(tarefaRepository.transicionarStatus(1L, usuario.getUsuarioId(), StatusTarefa.EM_PROGRESSO))
+                .thenReturn(Optional.of(tarefa));
+
+        Optional<Tarefa> resultado = tarefaService.updateStatus(1L, usuario.getUsuarioId(), StatusTarefa.EM_PROGRESSO);
+
+        assertThat(resultado).contains(tarefa);
         verify(tarefaRepository, never()).save(any());
+        verify(estatisticasTarefaService).invalidar(usuario.getUsuarioId());
+    }
+
+    @Test
+    void naoDevePermitirConcluirTarefaComSubtarefasPendentes() {
+        Usuario usuario = criarUsuario();
+
+        when(tarefaRepository.transicionarStatus(1L, usuario.getUsuarioId(), StatusTarefa.CONCLUIDA))
+                .thenReturn(Optional.empty());
+        when(tarefaRepository.existsByTarefaIdAndUsuarioId(1L, usuario.getUsuarioId())).thenReturn(true);
+
+        assertThatThrownBy(() -> tarefaService.updateStatus(1L, usuario.getUsuarioId(), StatusTarefa.CONCLUIDA))
+                .isInstanceOf(TarefaComSubtarefasPendentesException.class);
+
+        verifyNoInteractions(estatisticasTarefaService);
+    }
+
+    @Test
+    void naoDeveAtualizarStatusDeTarefaDeOutroUsuario() {
+        UUID outroUsuario = UUID.randomUUID();
+
+        when(tarefaRepository.transicionarStatus(1L, outroUsuario, StatusTarefa.EM_PROGRESSO))
+                .thenReturn(Optional.empty());
+
+        assertThat(tarefaService.updateStatus(1L, outroUsuario, StatusTarefa.EM_PROGRESSO)).isEmpty();
+        verify(tarefaRepository, never()).existsByTarefaIdAndUsuarioId(any(), any());
     }
 
     private Usuario criarUsuario() {
@@ -0,0 +1,46 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.entity.TokenRevogado;
+import com.matheusbiesek.todolist.spring_todo.repository.TokenRevogadoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenRevogadoPersistenciaTest extends PersistenciaTestBase {
+
+    @Autowired
+    private TokenRevogadoRepository tokenRevogadoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void limparRevogados() {
+        tokenRevogadoRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void deveInserirTokenRevogadoSemSelectAntes() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TokenRevogado tokenRevogado = new TokenRevogado();
+        tokenRevogado.setJti(UUID.randomUUID());
+        tokenRevogado.setExpiraEm(Instant.now().plusSeconds(600));
+        tokenRevogado.setRevogadoEm(Instant.now());
+        statistics.clear();
+
+        tokenRevogadoRepository.save(tokenRevogado);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(tokenRevogadoRepository.findById(tokenRevogado.getJti()))
+                .hasValueSatisfying(carregado -> assertThat(carregado.isNew()).isFalse());
+    }
+}
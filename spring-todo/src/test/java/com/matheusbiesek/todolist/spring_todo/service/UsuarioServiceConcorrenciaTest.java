@@ -0,0 +1,97 @@
+package com.matheusbiesek.todolist.spring_todo.service;
+
+import com.matheusbiesek.todolist.spring_todo.entity.Usuario;
+import com.matheusbiesek.todolist.spring_todo.exception.auth.EmailJaEmUsoException;
+import com.matheusbiesek.todolist.spring_todo.exception.auth.NomeUsuarioJaExisteException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Slf4j
+class UsuarioServiceConcorrenciaTest extends PersistenciaTestBase {
+
+    private static final int REGISTROS = 4000;
+    private static final int NOMES_DISTINTOS = 1000;
+    private static final int THREADS = 32;
+    // hash BCrypt pré-calculado: o teste mede o INSERT, não o custo do hash
+    private static final String SENHA_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z0mQ1ES/8mN8Q5s0dQZkQe1a";
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Test
+    void deveRegistrarApenasUmUsuarioPorNomeSobConcorrencia() throws Exception {
+        List<Callable<Class<?>>> registros = new ArrayList<>();
+        for (int i = 0; i < REGISTROS; i++) {
+            Usuario usuario = novoUsuario("usuario" + (i % NOMES_DISTINTOS), "usuario" + i + "@example.com");
+            registros.add(() -> registrar(usuario));
+        }
+
+        List<Class<?>> resultados = executarEmParalelo(registros);
+
+        assertThat(resultados).filteredOn(Usuario.class::equals).hasSize(NOMES_DISTINTOS);
+        assertThat(resultados).filteredOn(NomeUsuarioJaExisteException.class::equals)
+                .hasSize(REGISTROS - NOMES_DISTINTOS);
+        assertThat(usuarioRepository.count()).isEqualTo(NOMES_DISTINTOS);
+    }
+
+    @Test
+    void deveRegistrarApenasUmUsuarioPorEmailSobConcorrencia() throws Exception {
+        List<Callable<Class<?>>> registros = new ArrayList<>();
+        for (int i = 0; i < REGISTROS; i++) {
+            Usuario usuario = novoUsuario("usuario" + i, "usuario" + (i % NOMES_DISTINTOS) + "@example.com");
+            registros.add(() -> registrar(usuario));
+        }
+
+        List<Class<?>> resultados = executarEmParalelo(registros);
+
+        assertThat(resultados).filteredOn(Usuario.class::equals).hasSize(NOMES_DISTINTOS);
+        assertThat(resultados).filteredOn(EmailJaEmUsoException.class::equals)
+                .hasSize(REGISTROS - NOMES_DISTINTOS);
+        assertThat(usuarioRepository.count()).isEqualTo(NOMES_DISTINTOS);
+    }
+
+    private Class<?> registrar(Usuario usuario) {
+        try {
+            usuarioService.registrar(usuario);
+            return Usuario.class;
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    private List<Class<?>> executarEmParalelo(List<Callable<Class<?>>> registros) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            long inicio = System.nanoTime();
+            List<Class<?>> resultados = new ArrayList<>();
+            for (Future<Class<?>> futuro : executor.invokeAll(registros)) {
+                resultados.add(futuro.get());
+            }
+            long duracaoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+            log.info("{} registros concorrentes em {} ms ({} registros/s)",
+                    registros.size(), duracaoMs, registros.size() * 1000L / Math.max(duracaoMs, 1));
+            return resultados;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Usuario novoUsuario(String nomeUsuario, String email) {
+        Usuario usuario = new Usuario();
+        usuario.setNomeUsuario(nomeUsuario);
+        usuario.setEmail(email);
+        usuario.setSenhaHash(SENHA_HASH);
+        return usuario;
+    }
+}
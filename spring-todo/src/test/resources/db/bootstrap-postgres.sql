@@ -0,0 +1,4 @@
+-- Equivalente ao data-base/init-sgbd.sql para o container de teste: o role orchestrator
+-- usado pelas migrations, concedido ao usuário do container
+CREATE ROLE app_orchestrator;
+GRANT app_orchestrator TO CURRENT_USER;